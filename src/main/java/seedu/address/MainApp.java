@@ -7,6 +7,7 @@ import java.util.logging.Logger;
 
 import javafx.application.Application;
 import javafx.stage.Stage;
+import seedu.address.commons.core.AddressBookFormat;
 import seedu.address.commons.core.Config;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.core.Version;
@@ -23,11 +24,14 @@ import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.util.SampleDataUtil;
 import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.BinaryAddressBookStorage;
+import seedu.address.storage.JournaledAddressBookStorage;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
 import seedu.address.storage.UserPrefsStorage;
+import seedu.address.storage.WriteBehindStorage;
 import seedu.address.ui.Ui;
 import seedu.address.ui.UiManager;
 
@@ -40,6 +44,8 @@ public class MainApp extends Application {
 
     private static final Logger logger = LogsCenter.getLogger(MainApp.class);
 
+    private static final int FLUSH_ATTEMPTS_ON_STOP = 2;
+
     protected Ui ui;
     protected Logic logic;
     protected Storage storage;
@@ -57,8 +63,8 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
-        storage = new StorageManager(addressBookStorage, userPrefsStorage);
+        AddressBookStorage addressBookStorage = initAddressBookStorage(userPrefs);
+        storage = new WriteBehindStorage(new StorageManager(addressBookStorage, userPrefsStorage));
 
         model = initModelManager(storage, userPrefs);
 
@@ -67,10 +73,40 @@ public class MainApp extends Application {
         ui = new UiManager(logic);
     }
 
+    /**
+     * Returns the {@code AddressBookStorage} for the format chosen in {@code userPrefs}. <br>
+     * If the data file kept in the other format was written more recently than the one in the chosen format,
+     * e.g. because the format was switched since, it is converted into the chosen format, so that switching
+     * formats in either direction keeps the latest data.
+     */
+    private AddressBookStorage initAddressBookStorage(ReadOnlyUserPrefs userPrefs) {
+        Path jsonFilePath = userPrefs.getAddressBookFilePath();
+        JournaledAddressBookStorage jsonStorage =
+                new JournaledAddressBookStorage(new JsonAddressBookStorage(jsonFilePath));
+        JournaledAddressBookStorage binaryStorage = new JournaledAddressBookStorage(
+                new BinaryAddressBookStorage(BinaryAddressBookStorage.getBinaryFilePath(jsonFilePath)));
+
+        boolean isBinary = userPrefs.getAddressBookFormat() == AddressBookFormat.BINARY;
+        JournaledAddressBookStorage selectedStorage = isBinary ? binaryStorage : jsonStorage;
+        JournaledAddressBookStorage otherStorage = isBinary ? jsonStorage : binaryStorage;
+
+        try {
+            if (selectedStorage.importIfNewer(otherStorage)) {
+                logger.info("Converted newer data file " + otherStorage.getAddressBookFilePath() + " to "
+                        + selectedStorage.getAddressBookFilePath());
+            }
+        } catch (DataLoadingException | IOException e) {
+            logger.warning("Data file at " + otherStorage.getAddressBookFilePath() + " could not be converted: "
+                    + StringUtil.getDetails(e));
+        }
+        return selectedStorage;
+    }
+
     /**
      * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
      * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
      * or an empty address book will be used instead if errors occur when reading {@code storage}'s address book.
+     * Any changes journaled since the last snapshot of the address book are replayed while reading it.
      */
     private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
         logger.info("Using data file : " + storage.getAddressBookFilePath());
@@ -177,10 +213,31 @@ public class MainApp extends Application {
     @Override
     public void stop() {
         logger.info("============================ [ Stopping AddressBook ] =============================");
+        flushAddressBook();
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
             logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
         }
     }
+
+    /**
+     * Writes out the address book changes that are still queued, retrying if writing them fails.
+     * If they still cannot be written, the user is shown the failure before the app exits.
+     */
+    private void flushAddressBook() {
+        IOException failure = null;
+        for (int attempt = 1; attempt <= FLUSH_ATTEMPTS_ON_STOP; attempt++) {
+            try {
+                storage.flush();
+                return;
+            } catch (IOException e) {
+                logger.warning("Attempt " + attempt + " to save address book failed: " + e.getMessage());
+                failure = e;
+            }
+        }
+        logger.severe("Failed to save address book " + StringUtil.getDetails(failure));
+        ui.showErrorDialogAndWait("Could not save the latest changes to " + storage.getAddressBookFilePath(),
+                failure);
+    }
 }
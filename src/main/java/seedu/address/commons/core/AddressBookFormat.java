@@ -0,0 +1,11 @@
+package seedu.address.commons.core;
+
+/**
+ * Represents the file formats that the address book data can be stored in.
+ */
+public enum AddressBookFormat {
+    /** Human-readable JSON, stored at the address book file path. */
+    JSON,
+    /** Compact binary snapshot, stored next to the address book file path with a {@code .bin} extension. */
+    BINARY
+}
@@ -0,0 +1,80 @@
+package seedu.address.commons.core;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * A Serializable class that contains the limits on the undo history kept in memory.
+ * Guarantees: immutable.
+ */
+public class HistorySettings implements Serializable {
+
+    private static final int DEFAULT_MAX_STATES = 100;
+    private static final long DEFAULT_MAX_BYTES = 32L * 1024 * 1024;
+
+    private final int maxStates;
+    private final long maxBytes;
+
+    /**
+     * Constructs a {@code HistorySettings} with the default limits.
+     */
+    public HistorySettings() {
+        maxStates = DEFAULT_MAX_STATES;
+        maxBytes = DEFAULT_MAX_BYTES;
+    }
+
+    /**
+     * Constructs a {@code HistorySettings} with the specified limits.
+     *
+     * The current state and the one before it are always kept, even if this exceeds the limits.
+     *
+     * @param maxStates the most states kept, including the current one. Must be positive.
+     * @param maxBytes the most memory, in estimated bytes, used by the changes between the kept states.
+     */
+    public HistorySettings(int maxStates, long maxBytes) {
+        if (maxStates < 1 || maxBytes < 0) {
+            throw new IllegalArgumentException("History limits must not be negative and must keep one state");
+        }
+        this.maxStates = maxStates;
+        this.maxBytes = maxBytes;
+    }
+
+    public int getMaxStates() {
+        return maxStates;
+    }
+
+    public long getMaxBytes() {
+        return maxBytes;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof HistorySettings)) {
+            return false;
+        }
+
+        HistorySettings otherHistorySettings = (HistorySettings) other;
+        return maxStates == otherHistorySettings.maxStates
+                && maxBytes == otherHistorySettings.maxBytes;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(maxStates, maxBytes);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("maxStates", maxStates)
+                .add("maxBytes", maxBytes)
+                .toString();
+    }
+}
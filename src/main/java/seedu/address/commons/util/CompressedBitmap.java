@@ -0,0 +1,558 @@
+package seedu.address.commons.util;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * A set of non-negative integers, compressed in the manner of a Roaring bitmap.
+ *
+ * Values are grouped into chunks by their upper 16 bits. Each chunk holds its lower 16 bits either as a sorted array,
+ * while it has few values, or as a bitset of 2^16 bits once an array would take more memory.
+ * Sparse and dense sets both stay small, and intersections and unions work a chunk at a time.
+ */
+public class CompressedBitmap {
+
+    public static final String MESSAGE_CONSTRAINTS = "Values in a bitmap must not be negative";
+
+    private static final int CHUNK_BITS = 16;
+    private static final int LOW_BITS_MASK = (1 << CHUNK_BITS) - 1;
+    // An array of more values than this takes more memory than a bitset of the whole chunk
+    private static final int MAX_ARRAY_SIZE = 4096;
+    private static final int BITSET_WORDS = (1 << CHUNK_BITS) / Long.SIZE;
+
+    // Upper bits of the chunks, in ascending order, and the chunks holding their lower bits
+    private char[] keys;
+    private Chunk[] chunks;
+    private int chunkCount;
+
+    /**
+     * Constructs an empty {@code CompressedBitmap}.
+     */
+    public CompressedBitmap() {
+        this(new char[0], new Chunk[0], 0);
+    }
+
+    private CompressedBitmap(char[] keys, Chunk[] chunks, int chunkCount) {
+        this.keys = keys;
+        this.chunks = chunks;
+        this.chunkCount = chunkCount;
+    }
+
+    /**
+     * Returns a bitmap of {@code values}.
+     */
+    public static CompressedBitmap of(int... values) {
+        CompressedBitmap bitmap = new CompressedBitmap();
+        for (int value : values) {
+            bitmap.add(value);
+        }
+        return bitmap;
+    }
+
+    /**
+     * Returns true if the bitmap contains {@code value}. Negative values are never contained.
+     */
+    public boolean contains(int value) {
+        if (value < 0) {
+            return false;
+        }
+        int index = indexOfChunk(high(value));
+        return index >= 0 && chunks[index].contains(low(value));
+    }
+
+    /**
+     * Adds {@code value} to the bitmap, if it is not already present.
+     */
+    public void add(int value) {
+        checkArgument(value >= 0, MESSAGE_CONSTRAINTS);
+        char high = high(value);
+        int index = indexOfChunk(high);
+        if (index >= 0) {
+            chunks[index] = chunks[index].add(low(value));
+            return;
+        }
+
+        int insertionIndex = -index - 1;
+        if (chunkCount == keys.length) {
+            int capacity = Math.max(4, chunkCount * 2);
+            keys = Arrays.copyOf(keys, capacity);
+            chunks = Arrays.copyOf(chunks, capacity);
+        }
+        System.arraycopy(keys, insertionIndex, keys, insertionIndex + 1, chunkCount - insertionIndex);
+        System.arraycopy(chunks, insertionIndex, chunks, insertionIndex + 1, chunkCount - insertionIndex);
+        keys[insertionIndex] = high;
+        chunks[insertionIndex] = new ArrayChunk().add(low(value));
+        chunkCount++;
+    }
+
+    /**
+     * Removes {@code value} from the bitmap, if it is present.
+     */
+    public void remove(int value) {
+        if (value < 0) {
+            return;
+        }
+        int index = indexOfChunk(high(value));
+        if (index < 0) {
+            return;
+        }
+        Chunk chunk = chunks[index].remove(low(value));
+        if (chunk.getCardinality() > 0) {
+            chunks[index] = chunk;
+            return;
+        }
+        System.arraycopy(keys, index + 1, keys, index, chunkCount - index - 1);
+        System.arraycopy(chunks, index + 1, chunks, index, chunkCount - index - 1);
+        chunkCount--;
+        chunks[chunkCount] = null;
+    }
+
+    /**
+     * Removes all values from the bitmap.
+     */
+    public void clear() {
+        keys = new char[0];
+        chunks = new Chunk[0];
+        chunkCount = 0;
+    }
+
+    /**
+     * Returns a new bitmap of the values in both this bitmap and {@code other}.
+     */
+    public CompressedBitmap and(CompressedBitmap other) {
+        char[] resultKeys = new char[Math.min(chunkCount, other.chunkCount)];
+        Chunk[] resultChunks = new Chunk[resultKeys.length];
+        int count = 0;
+        int i = 0;
+        int j = 0;
+        while (i < chunkCount && j < other.chunkCount) {
+            if (keys[i] < other.keys[j]) {
+                i++;
+            } else if (keys[i] > other.keys[j]) {
+                j++;
+            } else {
+                Chunk chunk = chunks[i].and(other.chunks[j]);
+                if (chunk.getCardinality() > 0) {
+                    resultKeys[count] = keys[i];
+                    resultChunks[count] = chunk;
+                    count++;
+                }
+                i++;
+                j++;
+            }
+        }
+        return new CompressedBitmap(resultKeys, resultChunks, count);
+    }
+
+    /**
+     * Returns a new bitmap of the values in either this bitmap or {@code other}.
+     */
+    public CompressedBitmap or(CompressedBitmap other) {
+        char[] resultKeys = new char[chunkCount + other.chunkCount];
+        Chunk[] resultChunks = new Chunk[resultKeys.length];
+        int count = 0;
+        int i = 0;
+        int j = 0;
+        while (i < chunkCount || j < other.chunkCount) {
+            if (j == other.chunkCount || (i < chunkCount && keys[i] < other.keys[j])) {
+                resultKeys[count] = keys[i];
+                resultChunks[count] = chunks[i].copy();
+                i++;
+            } else if (i == chunkCount || keys[i] > other.keys[j]) {
+                resultKeys[count] = other.keys[j];
+                resultChunks[count] = other.chunks[j].copy();
+                j++;
+            } else {
+                resultKeys[count] = keys[i];
+                resultChunks[count] = chunks[i].or(other.chunks[j]);
+                i++;
+                j++;
+            }
+            count++;
+        }
+        return new CompressedBitmap(resultKeys, resultChunks, count);
+    }
+
+    /**
+     * Returns a new bitmap of the values in this bitmap but not in {@code other}.
+     */
+    public CompressedBitmap andNot(CompressedBitmap other) {
+        char[] resultKeys = new char[chunkCount];
+        Chunk[] resultChunks = new Chunk[chunkCount];
+        int count = 0;
+        int j = 0;
+        for (int i = 0; i < chunkCount; i++) {
+            while (j < other.chunkCount && other.keys[j] < keys[i]) {
+                j++;
+            }
+            Chunk chunk = j < other.chunkCount && other.keys[j] == keys[i]
+                    ? chunks[i].andNot(other.chunks[j])
+                    : chunks[i].copy();
+            if (chunk.getCardinality() > 0) {
+                resultKeys[count] = keys[i];
+                resultChunks[count] = chunk;
+                count++;
+            }
+        }
+        return new CompressedBitmap(resultKeys, resultChunks, count);
+    }
+
+    /**
+     * Returns a copy of this bitmap, which can be changed without changing this bitmap.
+     */
+    public CompressedBitmap copy() {
+        Chunk[] copiedChunks = new Chunk[chunkCount];
+        for (int i = 0; i < chunkCount; i++) {
+            copiedChunks[i] = chunks[i].copy();
+        }
+        return new CompressedBitmap(Arrays.copyOf(keys, chunkCount), copiedChunks, chunkCount);
+    }
+
+    /**
+     * Returns the number of values in the bitmap.
+     */
+    public int getCardinality() {
+        int cardinality = 0;
+        for (int i = 0; i < chunkCount; i++) {
+            cardinality += chunks[i].getCardinality();
+        }
+        return cardinality;
+    }
+
+    public boolean isEmpty() {
+        return chunkCount == 0;
+    }
+
+    /**
+     * Performs {@code action} on each value in the bitmap, in ascending order.
+     */
+    public void forEach(IntConsumer action) {
+        for (int i = 0; i < chunkCount; i++) {
+            chunks[i].forEach(keys[i] << CHUNK_BITS, action);
+        }
+    }
+
+    /**
+     * Returns the values in the bitmap in ascending order.
+     */
+    public int[] toArray() {
+        int[] values = new int[getCardinality()];
+        int[] count = {0};
+        forEach(value -> values[count[0]++] = value);
+        return values;
+    }
+
+    private int indexOfChunk(char high) {
+        return Arrays.binarySearch(keys, 0, chunkCount, high);
+    }
+
+    private static char high(int value) {
+        return (char) (value >>> CHUNK_BITS);
+    }
+
+    private static char low(int value) {
+        return (char) (value & LOW_BITS_MASK);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof CompressedBitmap)) {
+            return false;
+        }
+
+        CompressedBitmap otherBitmap = (CompressedBitmap) other;
+        return Arrays.equals(toArray(), otherBitmap.toArray());
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(toArray());
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+
+    /**
+     * The lower 16 bits of the values in one chunk of a bitmap.
+     * Updates return the chunk to use afterwards, which may be this chunk or a new chunk in another form.
+     */
+    private abstract static class Chunk {
+        abstract boolean contains(char low);
+
+        abstract Chunk add(char low);
+
+        abstract Chunk remove(char low);
+
+        abstract Chunk and(Chunk other);
+
+        abstract Chunk or(Chunk other);
+
+        abstract Chunk andNot(Chunk other);
+
+        abstract Chunk copy();
+
+        abstract int getCardinality();
+
+        abstract void forEach(int base, IntConsumer action);
+
+        abstract BitsetChunk toBitset();
+    }
+
+    /**
+     * A chunk holding its values as a sorted array, used while it has few values.
+     */
+    private static class ArrayChunk extends Chunk {
+        private char[] values;
+        private int size;
+
+        ArrayChunk() {
+            this(new char[4], 0);
+        }
+
+        ArrayChunk(char[] values, int size) {
+            this.values = values;
+            this.size = size;
+        }
+
+        private int indexOf(char low) {
+            return Arrays.binarySearch(values, 0, size, low);
+        }
+
+        @Override
+        boolean contains(char low) {
+            return indexOf(low) >= 0;
+        }
+
+        @Override
+        Chunk add(char low) {
+            int index = indexOf(low);
+            if (index >= 0) {
+                return this;
+            }
+            if (size == MAX_ARRAY_SIZE) {
+                return toBitset().add(low);
+            }
+            int insertionIndex = -index - 1;
+            if (size == values.length) {
+                values = Arrays.copyOf(values, Math.min(MAX_ARRAY_SIZE, size * 2));
+            }
+            System.arraycopy(values, insertionIndex, values, insertionIndex + 1, size - insertionIndex);
+            values[insertionIndex] = low;
+            size++;
+            return this;
+        }
+
+        @Override
+        Chunk remove(char low) {
+            int index = indexOf(low);
+            if (index >= 0) {
+                System.arraycopy(values, index + 1, values, index, size - index - 1);
+                size--;
+            }
+            return this;
+        }
+
+        @Override
+        Chunk and(Chunk other) {
+            char[] result = new char[size];
+            int count = 0;
+            for (int i = 0; i < size; i++) {
+                if (other.contains(values[i])) {
+                    result[count++] = values[i];
+                }
+            }
+            return new ArrayChunk(result, count);
+        }
+
+        @Override
+        Chunk or(Chunk other) {
+            if (!(other instanceof ArrayChunk)) {
+                return other.or(this);
+            }
+            ArrayChunk otherArray = (ArrayChunk) other;
+            if (size + otherArray.size > MAX_ARRAY_SIZE) {
+                return toBitset().or(other);
+            }
+
+            char[] result = new char[Math.max(1, size + otherArray.size)];
+            int count = 0;
+            int i = 0;
+            int j = 0;
+            while (i < size || j < otherArray.size) {
+                if (j == otherArray.size || (i < size && values[i] < otherArray.values[j])) {
+                    result[count++] = values[i++];
+                } else if (i == size || values[i] > otherArray.values[j]) {
+                    result[count++] = otherArray.values[j++];
+                } else {
+                    result[count++] = values[i++];
+                    j++;
+                }
+            }
+            return new ArrayChunk(result, count);
+        }
+
+        @Override
+        Chunk andNot(Chunk other) {
+            char[] result = new char[Math.max(1, size)];
+            int count = 0;
+            for (int i = 0; i < size; i++) {
+                if (!other.contains(values[i])) {
+                    result[count++] = values[i];
+                }
+            }
+            return new ArrayChunk(result, count);
+        }
+
+        @Override
+        Chunk copy() {
+            return new ArrayChunk(Arrays.copyOf(values, Math.max(1, size)), size);
+        }
+
+        @Override
+        int getCardinality() {
+            return size;
+        }
+
+        @Override
+        void forEach(int base, IntConsumer action) {
+            for (int i = 0; i < size; i++) {
+                action.accept(base | values[i]);
+            }
+        }
+
+        @Override
+        BitsetChunk toBitset() {
+            BitsetChunk bitset = new BitsetChunk(new long[BITSET_WORDS], 0);
+            for (int i = 0; i < size; i++) {
+                bitset.add(values[i]);
+            }
+            return bitset;
+        }
+    }
+
+    /**
+     * A chunk holding its values as a bitset, used once it has too many values for an array.
+     */
+    private static class BitsetChunk extends Chunk {
+        private final long[] words;
+        private int cardinality;
+
+        BitsetChunk(long[] words, int cardinality) {
+            this.words = words;
+            this.cardinality = cardinality;
+        }
+
+        @Override
+        boolean contains(char low) {
+            return (words[low >>> 6] & (1L << low)) != 0;
+        }
+
+        @Override
+        Chunk add(char low) {
+            if (!contains(low)) {
+                words[low >>> 6] |= 1L << low;
+                cardinality++;
+            }
+            return this;
+        }
+
+        @Override
+        Chunk remove(char low) {
+            if (!contains(low)) {
+                return this;
+            }
+            words[low >>> 6] &= ~(1L << low);
+            cardinality--;
+            return cardinality <= MAX_ARRAY_SIZE ? toArrayChunk() : this;
+        }
+
+        @Override
+        Chunk and(Chunk other) {
+            if (other instanceof ArrayChunk) {
+                return other.and(this);
+            }
+            long[] otherWords = ((BitsetChunk) other).words;
+            long[] result = new long[BITSET_WORDS];
+            int count = 0;
+            for (int i = 0; i < BITSET_WORDS; i++) {
+                result[i] = words[i] & otherWords[i];
+                count += Long.bitCount(result[i]);
+            }
+            BitsetChunk bitset = new BitsetChunk(result, count);
+            return count <= MAX_ARRAY_SIZE ? bitset.toArrayChunk() : bitset;
+        }
+
+        @Override
+        Chunk or(Chunk other) {
+            long[] otherWords = other.toBitset().words;
+            long[] result = new long[BITSET_WORDS];
+            int count = 0;
+            for (int i = 0; i < BITSET_WORDS; i++) {
+                result[i] = words[i] | otherWords[i];
+                count += Long.bitCount(result[i]);
+            }
+            return new BitsetChunk(result, count);
+        }
+
+        @Override
+        Chunk andNot(Chunk other) {
+            long[] result = words.clone();
+            if (other instanceof ArrayChunk) {
+                other.forEach(0, value -> result[value >>> 6] &= ~(1L << value));
+            } else {
+                long[] otherWords = ((BitsetChunk) other).words;
+                for (int i = 0; i < BITSET_WORDS; i++) {
+                    result[i] &= ~otherWords[i];
+                }
+            }
+            int count = 0;
+            for (long word : result) {
+                count += Long.bitCount(word);
+            }
+            BitsetChunk bitset = new BitsetChunk(result, count);
+            return count <= MAX_ARRAY_SIZE ? bitset.toArrayChunk() : bitset;
+        }
+
+        @Override
+        Chunk copy() {
+            return new BitsetChunk(words.clone(), cardinality);
+        }
+
+        @Override
+        int getCardinality() {
+            return cardinality;
+        }
+
+        @Override
+        void forEach(int base, IntConsumer action) {
+            for (int i = 0; i < BITSET_WORDS; i++) {
+                long word = words[i];
+                while (word != 0) {
+                    action.accept(base | (i << 6) | Long.numberOfTrailingZeros(word));
+                    word &= word - 1;
+                }
+            }
+        }
+
+        @Override
+        BitsetChunk toBitset() {
+            return this;
+        }
+
+        private ArrayChunk toArrayChunk() {
+            char[] values = new char[Math.max(1, cardinality)];
+            int[] count = {0};
+            forEach(0, value -> values[count[0]++] = (char) value);
+            return new ArrayChunk(values, cardinality);
+        }
+    }
+}
@@ -1,10 +1,15 @@
 package seedu.address.commons.util;
 
+import java.io.BufferedOutputStream;
+import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
 
 /**
  * Writes and reads files
@@ -12,6 +17,18 @@ import java.nio.file.Paths;
 public class FileUtil {
 
     private static final String CHARSET = "UTF-8";
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+
+    /**
+     * Writes the content of a file to a stream.
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+        /**
+         * Writes the content to {@code out}, without closing it.
+         */
+        void write(OutputStream out) throws IOException;
+    }
 
     public static boolean isFileExists(Path file) {
         return Files.exists(file) && Files.isRegularFile(file);
@@ -80,4 +97,46 @@ public class FileUtil {
         Files.write(file, content.getBytes(CHARSET));
     }
 
+    /**
+     * Replaces the content of {@code file} with the content written by {@code contentWriter}, creating the file
+     * and its missing parent directories if needed.
+     * The content is written to a temporary file beside {@code file}, synced to the disk, and only then moved in
+     * place of {@code file}, atomically where the file system supports it. If writing fails or is interrupted
+     * partway, {@code file} keeps its previous content.
+     *
+     * @throws IOException if the content could not be written or moved in place.
+     */
+    public static void writeAtomically(Path file, ContentWriter contentWriter) throws IOException {
+        createParentDirsOfFile(file);
+        Path parentDir = file.toAbsolutePath().getParent();
+        Path tempFile = Files.createTempFile(parentDir, file.getFileName().toString(), TEMP_FILE_SUFFIX);
+        boolean isMoved = false;
+        try {
+            try (FileOutputStream fileStream = new FileOutputStream(tempFile.toFile())) {
+                OutputStream out = new BufferedOutputStream(fileStream);
+                contentWriter.write(out);
+                out.flush();
+                fileStream.getFD().sync();
+            }
+            moveAtomically(tempFile, file);
+            isMoved = true;
+        } finally {
+            if (!isMoved) {
+                Files.deleteIfExists(tempFile);
+            }
+        }
+    }
+
+    /**
+     * Moves {@code source} in place of {@code target}, replacing it if it exists.
+     * The move is atomic where the file system supports it, so {@code target} is never seen partly replaced.
+     */
+    public static void moveAtomically(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
 }
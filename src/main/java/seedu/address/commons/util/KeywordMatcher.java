@@ -0,0 +1,143 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+/**
+ * Finds a keyword in strings, ignoring case.
+ * The keyword is trimmed and checked once, when the matcher is created, and matching compares the keyword against
+ * each region of a string in place, so testing a string allocates no memory.
+ * Guarantees: immutable.
+ */
+public class KeywordMatcher {
+
+    public static final String MESSAGE_CONSTRAINTS = "Keyword cannot be empty";
+
+    private final String keyword;
+    private final char foldedFirstChar;
+    private final boolean isSingleWord;
+
+    /**
+     * Creates a matcher for {@code keyword}, without its leading and trailing whitespace.
+     *
+     * @param keyword cannot be null, cannot be empty
+     */
+    public KeywordMatcher(String keyword) {
+        requireNonNull(keyword);
+        this.keyword = keyword.trim();
+        checkArgument(!this.keyword.isEmpty(), MESSAGE_CONSTRAINTS);
+        this.foldedFirstChar = foldCase(this.keyword.charAt(0));
+        this.isSingleWord = indexOfWhitespace(this.keyword) == -1;
+    }
+
+    public String getKeyword() {
+        return keyword;
+    }
+
+    /**
+     * Returns true if {@code sentence} contains the keyword as a continuous substring, ignoring case.
+     *
+     * @see StringUtil#containsSubstringIgnoreCase(String, String)
+     */
+    public boolean isSubstringOf(String sentence) {
+        requireNonNull(sentence);
+        int lastStart = sentence.length() - keyword.length();
+        for (int start = 0; start <= lastStart; start++) {
+            if (foldCase(sentence.charAt(start)) == foldedFirstChar
+                    && sentence.regionMatches(true, start + 1, keyword, 1, keyword.length() - 1)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns true if {@code sentence} contains the keyword as a full word, ignoring case.
+     * Words are separated by whitespace.
+     *
+     * @throws IllegalArgumentException if the keyword is not a single word.
+     * @see StringUtil#containsWordIgnoreCase(String, String)
+     */
+    public boolean isWordOf(String sentence) {
+        requireNonNull(sentence);
+        checkArgument(isSingleWord, StringUtil.MESSAGE_NOT_SINGLE_WORD);
+        int length = sentence.length();
+        int index = 0;
+        while (index < length) {
+            while (index < length && isWhitespace(sentence.charAt(index))) {
+                index++;
+            }
+            int start = index;
+            while (index < length && !isWhitespace(sentence.charAt(index))) {
+                index++;
+            }
+            int wordLength = index - start;
+            if (wordLength == keyword.length() && sentence.regionMatches(true, start, keyword, 0, wordLength)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns {@code string} with the case of each character folded as by {@link #foldCase(char)}.
+     * Unlike {@code String#toLowerCase}, the result does not depend on the default locale and has the same length,
+     * so strings folded by it compare equal exactly when matchers consider them equal.
+     */
+    public static String foldCase(String string) {
+        requireNonNull(string);
+        char[] foldedChars = new char[string.length()];
+        for (int i = 0; i < string.length(); i++) {
+            foldedChars[i] = foldCase(string.charAt(i));
+        }
+        return new String(foldedChars);
+    }
+
+    /**
+     * Returns the same character for all characters that {@code String#equalsIgnoreCase} considers equal.
+     */
+    static char foldCase(char c) {
+        return Character.toLowerCase(Character.toUpperCase(c));
+    }
+
+    /**
+     * Returns true if {@code c} is whitespace as matched by {@code \s} in a regular expression.
+     */
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
+    private static int indexOfWhitespace(String string) {
+        for (int i = 0; i < string.length(); i++) {
+            if (isWhitespace(string.charAt(i))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof KeywordMatcher)) {
+            return false;
+        }
+
+        KeywordMatcher otherMatcher = (KeywordMatcher) other;
+        return keyword.equals(otherMatcher.keyword);
+    }
+
+    @Override
+    public int hashCode() {
+        return keyword.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return keyword;
+    }
+}
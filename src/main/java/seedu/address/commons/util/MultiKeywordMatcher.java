@@ -0,0 +1,193 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * Finds any of several keywords in strings, ignoring case.
+ * The keywords are compiled once into an Aho-Corasick automaton, so a string is scanned a single time
+ * however many keywords there are, and testing a string allocates no memory.
+ * Keywords are trimmed, and must not be empty. Guarantees: immutable.
+ *
+ * @see KeywordMatcher
+ */
+public class MultiKeywordMatcher {
+
+    private static final int ROOT = 0;
+    private static final int NO_STATE = -1;
+
+    private final List<String> keywords;
+
+    // The outgoing edges of each state, as case-folded characters in ascending order and the states they lead to
+    private final char[][] edgeChars;
+    private final int[][] edgeTargets;
+    // The state for the longest proper suffix of each state's prefix that is also a prefix of some keyword
+    private final int[] failures;
+    // Whether a keyword ends at each state, or at a state on its chain of failures
+    private final boolean[] isMatching;
+
+    /**
+     * Creates a matcher for all of {@code keywords}, without their leading and trailing whitespace.
+     *
+     * @param keywords cannot be null, cannot contain empty keywords
+     */
+    public MultiKeywordMatcher(List<String> keywords) {
+        requireAllNonNull(keywords);
+        List<String> preppedKeywords = new ArrayList<>();
+        List<TreeMap<Character, Integer>> trie = new ArrayList<>();
+        List<Boolean> isKeywordEnd = new ArrayList<>();
+        trie.add(new TreeMap<>());
+        isKeywordEnd.add(false);
+
+        for (String keyword : keywords) {
+            String preppedKeyword = new KeywordMatcher(keyword).getKeyword();
+            preppedKeywords.add(preppedKeyword);
+            int state = ROOT;
+            for (int i = 0; i < preppedKeyword.length(); i++) {
+                char c = KeywordMatcher.foldCase(preppedKeyword.charAt(i));
+                Integer next = trie.get(state).get(c);
+                if (next == null) {
+                    next = trie.size();
+                    trie.get(state).put(c, next);
+                    trie.add(new TreeMap<>());
+                    isKeywordEnd.add(false);
+                }
+                state = next;
+            }
+            isKeywordEnd.set(state, true);
+        }
+
+        int stateCount = trie.size();
+        this.keywords = Collections.unmodifiableList(preppedKeywords);
+        this.edgeChars = new char[stateCount][];
+        this.edgeTargets = new int[stateCount][];
+        this.failures = new int[stateCount];
+        this.isMatching = new boolean[stateCount];
+        for (int state = 0; state < stateCount; state++) {
+            TreeMap<Character, Integer> edges = trie.get(state);
+            edgeChars[state] = new char[edges.size()];
+            edgeTargets[state] = new int[edges.size()];
+            int i = 0;
+            for (Map.Entry<Character, Integer> edge : edges.entrySet()) {
+                edgeChars[state][i] = edge.getKey();
+                edgeTargets[state][i] = edge.getValue();
+                i++;
+            }
+            isMatching[state] = isKeywordEnd.get(state);
+        }
+        linkFailures();
+    }
+
+    /**
+     * Sets the failure of every state, visiting states in order of depth so that the failures of shallower states
+     * are known first.
+     */
+    private void linkFailures() {
+        Queue<Integer> queue = new ArrayDeque<>();
+        failures[ROOT] = ROOT;
+        for (int child : edgeTargets[ROOT]) {
+            failures[child] = ROOT;
+            queue.add(child);
+        }
+        while (!queue.isEmpty()) {
+            int state = queue.remove();
+            for (int i = 0; i < edgeChars[state].length; i++) {
+                int child = edgeTargets[state][i];
+                failures[child] = follow(failures[state], edgeChars[state][i]);
+                isMatching[child] |= isMatching[failures[child]];
+                queue.add(child);
+            }
+        }
+    }
+
+    /**
+     * Returns the trimmed keywords, in the order given.
+     */
+    public List<String> getKeywords() {
+        return keywords;
+    }
+
+    /**
+     * Returns the trimmed keywords with their case folded, in sorted order and without duplicates.
+     * Matchers with the same normalized keywords match the same strings.
+     */
+    public List<String> getNormalizedKeywords() {
+        return keywords.stream()
+                .map(KeywordMatcher::foldCase)
+                .distinct()
+                .sorted()
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Returns true if {@code sentence} contains any of the keywords as a continuous substring, ignoring case.
+     */
+    public boolean isAnyFoundIn(String sentence) {
+        requireNonNull(sentence);
+        int state = ROOT;
+        for (int i = 0; i < sentence.length(); i++) {
+            state = follow(state, KeywordMatcher.foldCase(sentence.charAt(i)));
+            if (isMatching[state]) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the state reached from {@code state} on reading {@code c}, falling back along failures as needed.
+     */
+    private int follow(int state, char c) {
+        int current = state;
+        while (true) {
+            int next = getEdgeTarget(current, c);
+            if (next != NO_STATE) {
+                return next;
+            }
+            if (current == ROOT) {
+                return ROOT;
+            }
+            current = failures[current];
+        }
+    }
+
+    private int getEdgeTarget(int state, char c) {
+        int index = Arrays.binarySearch(edgeChars[state], c);
+        return index < 0 ? NO_STATE : edgeTargets[state][index];
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof MultiKeywordMatcher)) {
+            return false;
+        }
+
+        MultiKeywordMatcher otherMatcher = (MultiKeywordMatcher) other;
+        return keywords.equals(otherMatcher.keywords);
+    }
+
+    @Override
+    public int hashCode() {
+        return keywords.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return keywords.toString();
+    }
+}
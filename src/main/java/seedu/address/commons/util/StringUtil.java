@@ -5,13 +5,14 @@ import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.io.PrintWriter;
 import java.io.StringWriter;
-import java.util.Arrays;
 
 /**
  * Helper functions for handling strings.
  */
 public class StringUtil {
 
+    public static final String MESSAGE_NOT_SINGLE_WORD = "Word parameter should be a single word";
+
     /**
      * Returns true if the {@code sentence} contains the {@code word}.
      *   Ignores case, but a full word match is required.
@@ -27,15 +28,9 @@ public class StringUtil {
         requireNonNull(sentence);
         requireNonNull(word);
 
-        String preppedWord = word.trim();
-        checkArgument(!preppedWord.isEmpty(), "Word parameter cannot be empty");
-        checkArgument(preppedWord.split("\\s+").length == 1, "Word parameter should be a single word");
-
-        String preppedSentence = sentence;
-        String[] wordsInPreppedSentence = preppedSentence.split("\\s+");
+        checkArgument(!word.trim().isEmpty(), "Word parameter cannot be empty");
 
-        return Arrays.stream(wordsInPreppedSentence)
-                .anyMatch(preppedWord::equalsIgnoreCase);
+        return new KeywordMatcher(word).isWordOf(sentence);
     }
 
     /**
@@ -47,6 +42,8 @@ public class StringUtil {
      *       containsWordIgnoreCase("ABc def", "DEF") == true
      *       containsWordIgnoreCase("ABc def", "ABC DE") == true
      *       </pre>
+     * To test many sentences for the same substring, use a {@link KeywordMatcher} instead.
+     *
      * @param sentence cannot be null
      * @param substring cannot be null, cannot be empty
      */
@@ -54,10 +51,9 @@ public class StringUtil {
         requireNonNull(sentence);
         requireNonNull(substring);
 
-        String preppedSubstring = substring.trim();
-        checkArgument(!preppedSubstring.isEmpty(), "Substring parameter cannot be empty");
+        checkArgument(!substring.trim().isEmpty(), "Substring parameter cannot be empty");
 
-        return sentence.toLowerCase().contains(preppedSubstring.toLowerCase());
+        return new KeywordMatcher(substring).isSubstringOf(sentence);
     }
 
     /**
@@ -0,0 +1,59 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.function.Function;
+
+/**
+ * A pool of canonical immutable values, each identified by a string key.
+ * Equal values created through the same pool are the same instance, so holding many copies of the same value
+ * costs one reference each, and comparing them is usually a reference comparison.
+ * Values are only weakly held by the pool, and are dropped from it once nothing else refers to them.
+ * Safe for use by multiple threads.
+ *
+ * @param <T> the type of values in this pool
+ */
+public class WeakInterner<T> {
+
+    // Each key is the string held by its value, so an entry is kept exactly as long as its value is in use
+    private final Map<String, WeakReference<T>> pool = new WeakHashMap<>();
+    private final Function<String, T> factory;
+    private final Function<T, String> keyGetter;
+
+    /**
+     * Creates an empty pool.
+     *
+     * @param factory creates a new value from a key, throwing if the key is invalid.
+     * @param keyGetter returns the key held by a value, which must equal the key it was created from.
+     */
+    public WeakInterner(Function<String, T> factory, Function<T, String> keyGetter) {
+        requireNonNull(factory);
+        requireNonNull(keyGetter);
+        this.factory = factory;
+        this.keyGetter = keyGetter;
+    }
+
+    /**
+     * Returns the value in the pool with {@code key}, creating and adding it if there is none.
+     */
+    public synchronized T intern(String key) {
+        requireNonNull(key);
+        WeakReference<T> reference = pool.get(key);
+        T value = reference == null ? null : reference.get();
+        if (value == null) {
+            value = factory.apply(key);
+            pool.put(keyGetter.apply(value), new WeakReference<>(value));
+        }
+        return value;
+    }
+
+    /**
+     * Returns the number of values in the pool, including any no longer in use that have yet to be dropped.
+     */
+    public synchronized int size() {
+        return pool.size();
+    }
+}
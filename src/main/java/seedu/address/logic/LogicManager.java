@@ -3,6 +3,7 @@ package seedu.address.logic;
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.Optional;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -32,6 +33,9 @@ public class LogicManager implements Logic {
     public static final String FILE_OPS_PERMISSION_ERROR_FORMAT =
             "Could not save data to file %s due to insufficient permissions to write to the file or the folder.";
 
+    public static final String SAVE_FAILURE_NOTICE_FORMAT =
+            "Warning: earlier changes have not been saved yet, and saving them will be retried. %s";
+
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
@@ -65,15 +69,28 @@ public class LogicManager implements Logic {
 
         try {
             storage.saveAddressBook(model.getAddressBook());
-        } catch (AccessDeniedException e) {
-            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
         } catch (IOException ioe) {
-            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+            throw new CommandException(getSaveErrorMessage(ioe), ioe);
+        }
+
+        // a save that failed in the background does not fail this command, which has already taken effect
+        Optional<IOException> backgroundSaveFailure = storage.takeBackgroundSaveFailure();
+        if (backgroundSaveFailure.isPresent()) {
+            logger.warning("Reporting failed background save: " + backgroundSaveFailure.get().getMessage());
+            commandResult = commandResult.withNotice(String.format(SAVE_FAILURE_NOTICE_FORMAT,
+                    getSaveErrorMessage(backgroundSaveFailure.get())));
         }
 
         return commandResult;
     }
 
+    private static String getSaveErrorMessage(IOException ioe) {
+        if (ioe instanceof AccessDeniedException) {
+            return String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, ioe.getMessage());
+        }
+        return String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage());
+    }
+
     @Override
     public ReadOnlyAddressBook getAddressBook() {
         return model.getAddressBook();
@@ -36,6 +36,14 @@ public class CommandResult {
         this(feedbackToUser, false, false);
     }
 
+    /**
+     * Returns a copy of this result with {@code notice} shown to the user after the feedback.
+     */
+    public CommandResult withNotice(String notice) {
+        requireNonNull(notice);
+        return new CommandResult(feedbackToUser + "\n" + notice, showHelp, exit);
+    }
+
     public String getFeedbackToUser() {
         return feedbackToUser;
     }
@@ -7,22 +7,34 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.function.Predicate;
+import java.util.logging.Logger;
 import java.util.stream.Collectors;
 
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.CompressedBitmap;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.model.Model;
+import seedu.address.model.person.CostEstimate;
 import seedu.address.model.person.InFilteredListPredicate;
+import seedu.address.model.person.IndexedPredicate;
 import seedu.address.model.person.ModuleRoleContainsKeywordsPredicate;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonIndex;
+import seedu.address.model.person.QueryResultCache;
 import seedu.address.model.person.TagContainsKeywordsPredicate;
+import seedu.address.model.person.query.Query;
 
 
 /**
- * Finds and lists all persons in address book whose name or module contains any of the argument keywords.
+ * Finds and lists all persons in address book whose name or module contains any of the argument keywords,
+ * or who match a boolean query of such conditions.
  * Keyword matching is case insensitive.
  */
 public class FindCommand extends Command {
@@ -46,7 +58,12 @@ public class FindCommand extends Command {
             + PREFIX_MODULE + "CS1101S "
             + PREFIX_MODULE + "CS2030S "
             + PREFIX_TAG + "friends "
-            + PREFIX_TAG + "classmates";
+            + PREFIX_TAG + "classmates\n"
+            + "Conditions can also be combined with AND, OR, NOT and parentheses.\n"
+            + "Example: " + COMMAND_WORD + " "
+            + "(" + PREFIX_NAME + "alice OR " + PREFIX_TAG + "friends) AND NOT " + PREFIX_MODULE + "CS2103T-TA";
+
+    private static final Logger logger = LogsCenter.getLogger(FindCommand.class);
 
     private final List<Predicate<Person>> predicates;
 
@@ -79,33 +96,10 @@ public class FindCommand extends Command {
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        Predicate<Person> combinedPredicate = predicates.stream()
-                .reduce(Predicate::and)
-                .orElse(t -> false);
-
-        // If we are chaining, on top of the searching conditions, we need to perform an additional check
-        // that the person is in the previously displayed results.
-        if (isChained) {
-            // We HAVE to copy the list here, or it will have been emptied by the time Predicate.test() is called
-            Predicate<Person> inFilteredListPredicate = new InFilteredListPredicate(
-                    new ArrayList<>(model.getFilteredPersonList()));
-            combinedPredicate = combinedPredicate.and(inFilteredListPredicate);
-        }
-
-        if (isChained) {
-            combinedPredicate = predicates.stream()
-                    .reduce(Predicate::and)
-                    .orElse(t -> false);
-            Predicate<Person> inFilteredListPredicate = new InFilteredListPredicate(
-                    new ArrayList<>(model.getFilteredPersonList()));
-            combinedPredicate = combinedPredicate.and(inFilteredListPredicate);
-        } else {
-            combinedPredicate = predicates.stream()
-                    .reduce(Predicate::and)
-                    .orElse(t -> false);
-        }
-
+        List<LookedUpPredicate> lookedUpPredicates = new ArrayList<>();
+        Predicate<Person> combinedPredicate = combinePredicates(model, lookedUpPredicates);
         model.updateFilteredPersonList(combinedPredicate);
+        lookedUpPredicates.forEach(LookedUpPredicate::invalidate);
         String conditions = getAllKeywordsFromPredicates(predicates);
         if (isChained) {
             conditions = Messages.MESSAGE_CHAINED_FIND_PREFIX + conditions;
@@ -141,6 +135,95 @@ public class FindCommand extends Command {
                 .toString();
     }
 
+    /**
+     * Combines the predicates of this command into one predicate that a person must satisfy all of.
+     * Predicates that can be looked up through the {@code PersonIndex} of {@code model} are evaluated once here,
+     * as bitmaps of person ordinals that are intersected with each other, and with the ordinals of the persons in
+     * the current filtered list if this command is chained. Testing a person against them is then a single bitmap
+     * lookup, and the remaining predicates are only tested on persons that match the looked up ones.
+     * The persons found for a find on the full list are cached in the {@code QueryResultCache} of the index, and
+     * found there again when the same find is repeated. The lookups are added to {@code lookedUpPredicates}.
+     */
+    private Predicate<Person> combinePredicates(Model model, List<LookedUpPredicate> lookedUpPredicates) {
+        if (predicates.isEmpty()) {
+            return person -> false;
+        }
+
+        PersonIndex personIndex = model.getPersonIndex();
+        CompressedBitmap matchingOrdinals = null;
+        Predicate<Person> indexedPredicate = person -> true;
+        Predicate<Person> unindexedPredicate = person -> true;
+        // If we are chaining, on top of the searching conditions, we need to perform an additional check
+        // that the person is in the previously displayed results.
+        if (isChained) {
+            matchingOrdinals = personIndex.getOrdinals(model.getFilteredPersonList());
+            indexedPredicate = new InFilteredListPredicate(model.getFilteredPersonList(), personIndex);
+        }
+        List<IndexedPredicate> indexedPredicates = new ArrayList<>();
+        for (Predicate<Person> predicate : predicates) {
+            if (predicate instanceof IndexedPredicate indexed) {
+                indexedPredicates.add(indexed);
+                indexedPredicate = indexedPredicate.and(predicate);
+            } else {
+                unindexedPredicate = unindexedPredicate.and(predicate);
+            }
+        }
+        if (matchingOrdinals == null && indexedPredicates.isEmpty()) {
+            return unindexedPredicate;
+        }
+
+        QueryResultCache queryResultCache = personIndex.getQueryResultCache();
+        String cacheKey = null;
+        CompressedBitmap cachedOrdinals = null;
+        // The persons found on the full list are cached, as they do not depend on the persons last displayed
+        if (!isChained && indexedPredicates.size() == predicates.size()) {
+            cacheKey = IndexedPredicate.combineCacheKeys("AND", indexedPredicates);
+            cachedOrdinals = queryResultCache.get(cacheKey);
+        }
+        if (cachedOrdinals != null) {
+            logger.fine("Found cached persons matching " + cacheKey);
+            matchingOrdinals = cachedOrdinals;
+        } else {
+            matchingOrdinals = lookUp(personIndex, indexedPredicates, matchingOrdinals);
+            if (cacheKey != null) {
+                queryResultCache.put(cacheKey, indexedPredicate, matchingOrdinals);
+            }
+        }
+
+        LookedUpPredicate lookedUpPredicate = new LookedUpPredicate(personIndex, matchingOrdinals, indexedPredicate);
+        lookedUpPredicates.add(lookedUpPredicate);
+        return lookedUpPredicate.and(unindexedPredicate);
+    }
+
+    /**
+     * Returns the ordinals among {@code candidates}, or among all persons if null, of the persons in
+     * {@code personIndex} satisfying all of {@code indexedPredicates}.
+     * The predicates are looked up in the order that their estimates on the index suggest is cheapest, and the
+     * lookups stop once no persons are left.
+     */
+    private static CompressedBitmap lookUp(PersonIndex personIndex, List<IndexedPredicate> indexedPredicates,
+            CompressedBitmap candidates) {
+        Map<IndexedPredicate, CostEstimate> estimates = new IdentityHashMap<>();
+        indexedPredicates.forEach(indexed -> estimates.put(indexed, indexed.estimate(personIndex)));
+        List<IndexedPredicate> orderedPredicates = new ArrayList<>(indexedPredicates);
+        orderedPredicates.sort(Comparator.comparingDouble(indexed -> estimates.get(indexed).getConjunctionRank()));
+
+        CompressedBitmap matchingOrdinals = candidates;
+        for (IndexedPredicate indexed : orderedPredicates) {
+            if (matchingOrdinals != null && matchingOrdinals.isEmpty()) {
+                logger.fine("No persons left, skipping lookup of " + describePredicate(indexed));
+                continue;
+            }
+            int candidateCount = matchingOrdinals == null ? personIndex.size() : matchingOrdinals.getCardinality();
+            matchingOrdinals = matchingOrdinals == null
+                    ? indexed.getMatchingOrdinals(personIndex)
+                    : indexed.getMatchingOrdinals(personIndex, matchingOrdinals);
+            logger.fine("Looked up " + describePredicate(indexed) + " " + estimates.get(indexed)
+                    + ": " + candidateCount + " -> " + matchingOrdinals.getCardinality() + " persons");
+        }
+        return matchingOrdinals;
+    }
+
     /**
      * Retrieves all keywords from the provided list of predicates and formats them as a comma-separated string.
      * Each keyword is surrounded by "".
@@ -150,12 +233,20 @@ public class FindCommand extends Command {
      */
     private String getAllKeywordsFromPredicates(List<Predicate<Person>> predicates) {
         return predicates.stream()
-                .map(FindCommand::extractKeywords)
-                .map(kws -> kws.stream().collect(Collectors.joining(" OR ")))
-                .map(kws -> "(" + kws + ")")
+                .map(FindCommand::describePredicate)
                 .collect(Collectors.joining(" AND "));
     }
 
+    /**
+     * Returns the keywords of {@code predicate} joined with OR in parentheses, or the description of a query.
+     */
+    private static String describePredicate(Predicate<Person> predicate) {
+        if (predicate instanceof Query query) {
+            return query.describe();
+        }
+        return "(" + String.join(" OR ", extractKeywords(predicate)) + ")";
+    }
+
     /**
      * Extracts keywords from a given predicate, depending on the type of predicate.
      * If the predicate is of an unrecognized type, an empty list is returned.
@@ -173,4 +264,32 @@ public class FindCommand extends Command {
         }
         return Collections.emptyList();
     }
+
+    /**
+     * Tests whether a person is among the persons looked up for a predicate, until invalidated.
+     * The filtered person list tests every person once when its predicate is set, and afterwards only the persons
+     * added or replaced by later changes, which may have been missed by the lookup or given the ordinal of a removed
+     * person, and are tested against the predicate itself.
+     */
+    private static class LookedUpPredicate implements Predicate<Person> {
+        private final PersonIndex personIndex;
+        private final CompressedBitmap lookedUpOrdinals;
+        private final Predicate<Person> predicate;
+        private boolean isValid = true;
+
+        LookedUpPredicate(PersonIndex personIndex, CompressedBitmap lookedUpOrdinals, Predicate<Person> predicate) {
+            this.personIndex = personIndex;
+            this.lookedUpOrdinals = lookedUpOrdinals;
+            this.predicate = predicate;
+        }
+
+        void invalidate() {
+            isValid = false;
+        }
+
+        @Override
+        public boolean test(Person person) {
+            return isValid ? lookedUpOrdinals.contains(personIndex.getOrdinal(person)) : predicate.test(person);
+        }
+    }
 }
@@ -29,6 +29,7 @@ public class HelpCommand extends Command {
         RedoCommand.MESSAGE_USAGE,
         FindCommand.MESSAGE_USAGE,
         ListCommand.MESSAGE_USAGE,
+        StatsCommand.MESSAGE_USAGE,
         HelpCommand.MESSAGE_USAGE,
         ClearCommand.MESSAGE_USAGE,
         ExitCommand.MESSAGE_USAGE
@@ -61,6 +62,8 @@ public class HelpCommand extends Command {
             return new CommandResult(FindCommand.MESSAGE_USAGE, false, false);
         case ListCommand.COMMAND_WORD:
             return new CommandResult(ListCommand.MESSAGE_USAGE, false, false);
+        case StatsCommand.COMMAND_WORD:
+            return new CommandResult(StatsCommand.MESSAGE_USAGE, false, false);
         case HelpCommand.COMMAND_WORD:
             return new CommandResult(MESSAGE_USAGE, false, false);
         case ClearCommand.COMMAND_WORD:
@@ -0,0 +1,33 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.model.Model;
+import seedu.address.model.person.QueryResultCache;
+
+/**
+ * Shows how often recent find results have been reused from the cache of find results.
+ */
+public class StatsCommand extends Command {
+
+    public static final String COMMAND_WORD = "stats";
+
+    public static final String MESSAGE_SUCCESS = "Find result cache: %1$d of %2$d entries used, "
+            + "%3$d hits and %4$d misses (%5$.1f%% hit rate)";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Shows how many find results are cached and how often repeated finds reuse them.\n"
+            + "Example: " + COMMAND_WORD;
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        QueryResultCache queryResultCache = model.getPersonIndex().getQueryResultCache();
+        return new CommandResult(String.format(MESSAGE_SUCCESS,
+                queryResultCache.size(),
+                queryResultCache.getCapacity(),
+                queryResultCache.getHitCount(),
+                queryResultCache.getMissCount(),
+                queryResultCache.getHitRate() * 100));
+    }
+}
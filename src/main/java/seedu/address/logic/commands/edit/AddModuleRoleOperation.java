@@ -3,6 +3,7 @@ package seedu.address.logic.commands.edit;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
@@ -37,9 +38,17 @@ public class AddModuleRoleOperation extends EditModuleRoleOperation {
      */
     @Override
     protected ModuleRoleMap execute(ModuleRoleMap moduleRoleMapToEdit) throws CommandException {
-        HashMap<ModuleCode, RoleType> roles = new HashMap<>(moduleRoleMapToEdit.getRoles());
-        ModuleRoleMap result = new ModuleRoleMap(roles);
-        ModuleRoleMap failed = result.putAll(descriptor.getToAdds());
+        ModuleRoleMap result = moduleRoleMapToEdit;
+        Map<ModuleCode, RoleType> failedModuleRoles = new HashMap<>();
+        for (ModuleRolePair moduleRolePair : descriptor.getToAdds()) {
+            if (result.containsModule(moduleRolePair.moduleCode)) {
+                failedModuleRoles.put(moduleRolePair.moduleCode, moduleRolePair.roleType);
+            } else {
+                result = result.put(moduleRolePair);
+            }
+        }
+
+        ModuleRoleMap failed = new ModuleRoleMap(failedModuleRoles);
         if (!failed.isEmpty()) {
             throw new CommandException(String.format(MESSAGE_MODULE_ROLE_PAIRS_CLASH,
                     failed.getData(true)));
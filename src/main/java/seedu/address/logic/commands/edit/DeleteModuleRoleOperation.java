@@ -1,7 +1,6 @@
 package seedu.address.logic.commands.edit;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.logging.Logger;
 
@@ -10,7 +9,6 @@ import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.person.ModuleCode;
 import seedu.address.model.person.ModuleRoleMap;
 import seedu.address.model.person.ModuleRolePair;
-import seedu.address.model.person.RoleType;
 
 /**
  * Represents an operation to delete a person's module roles.
@@ -42,10 +40,24 @@ public class DeleteModuleRoleOperation extends EditModuleRoleOperation {
      */
     @Override
     protected ModuleRoleMap execute(ModuleRoleMap moduleRoleMapToEdit) throws CommandException {
-        HashMap<ModuleCode, RoleType> roles = new HashMap<>(moduleRoleMapToEdit.getRoles());
-        ModuleRoleMap result = new ModuleRoleMap(roles);
-        List<ModuleRolePair> failedModuleRoles = result.removeAll(descriptor.getToDeletes());
-        List<ModuleCode> failedModuleCodes = result.removeAllIgnoringRoles(descriptor.getToDeleteAnyRoles());
+        ModuleRoleMap result = moduleRoleMapToEdit;
+        List<ModuleRolePair> failedModuleRoles = new ArrayList<>();
+        for (ModuleRolePair moduleRolePair : descriptor.getToDeletes()) {
+            if (result.containsModuleRolePair(moduleRolePair)) {
+                result = result.remove(moduleRolePair);
+            } else {
+                failedModuleRoles.add(moduleRolePair);
+            }
+        }
+
+        List<ModuleCode> failedModuleCodes = new ArrayList<>();
+        for (ModuleCode moduleCode : descriptor.getToDeleteAnyRoles()) {
+            if (result.containsModule(moduleCode)) {
+                result = result.removeIgnoringRole(moduleCode);
+            } else {
+                failedModuleCodes.add(moduleCode);
+            }
+        }
 
         List<String> exceptionMessages = new ArrayList<>();
         if (!failedModuleRoles.isEmpty()) {
@@ -39,6 +39,10 @@ public class FindCommandParser implements Parser<FindCommand> {
      * @throws ParseException if the user input does not conform the expected format
      */
     public FindCommand parse(String args) throws ParseException {
+        if (QueryParser.isQuery(args)) {
+            return parseQuery(args);
+        }
+
         ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_NAME, PREFIX_PHONE,
                 PREFIX_EMAIL, PREFIX_ADDRESS, PREFIX_TAG, PREFIX_MODULE, PREFIX_DESCRIPTION);
 
@@ -93,4 +97,16 @@ public class FindCommandParser implements Parser<FindCommand> {
 
         return new FindCommand(predicates, isChained);
     }
+
+    /**
+     * Parses {@code args} written as a boolean query, optionally preceded by "chained".
+     *
+     * @throws ParseException if the query is invalid
+     */
+    private FindCommand parseQuery(String args) throws ParseException {
+        String[] chainedAndQuery = args.trim().split("\\s+", 2);
+        boolean isChained = chainedAndQuery[0].equals(FindCommand.CHAINED);
+        String query = isChained ? (chainedAndQuery.length > 1 ? chainedAndQuery[1] : "") : args;
+        return new FindCommand(List.of(new QueryParser().parse(query)), isChained);
+    }
 }
@@ -122,7 +122,7 @@ public class ParserUtil {
         if (!Tag.isValidTagName(trimmedTag)) {
             throw new ParseException(Tag.MESSAGE_CONSTRAINTS);
         }
-        return new Tag(trimmedTag);
+        return Tag.of(trimmedTag);
     }
 
     /**
@@ -180,7 +180,7 @@ public class ParserUtil {
         if (!ModuleCode.isValidModuleCode(trimmedModuleCode)) {
             throw new ParseException(ModuleCode.MESSAGE_CONSTRAINTS);
         }
-        return new ModuleCode(trimmedModuleCode);
+        return ModuleCode.of(trimmedModuleCode);
     }
 
     /**
@@ -207,7 +207,7 @@ public class ParserUtil {
                 throw new ParseException(ModuleCode.MESSAGE_CONSTRAINTS);
             }
 
-            moduleCode = new ModuleCode(trimmed);
+            moduleCode = ModuleCode.of(trimmed);
             roleType = RoleType.STUDENT;
         } else {
             // Verify able to split by -
@@ -220,7 +220,7 @@ public class ParserUtil {
                 throw new ParseException(ModuleCode.MESSAGE_CONSTRAINTS);
             }
 
-            moduleCode = new ModuleCode(parsed[0]);
+            moduleCode = ModuleCode.of(parsed[0]);
             roleType = parseRoleType(parsed[1]);
         }
 
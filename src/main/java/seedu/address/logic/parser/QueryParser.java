@@ -0,0 +1,302 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_EMPTY_FIND_KEYWORD;
+import static seedu.address.logic.Messages.MESSAGE_UNEXPECTED_PREAMBLE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DESCRIPTION;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_MODULE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.ModuleRoleContainsKeywordsPredicate;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.TagContainsKeywordsPredicate;
+import seedu.address.model.person.query.AndQuery;
+import seedu.address.model.person.query.NotQuery;
+import seedu.address.model.person.query.OrQuery;
+import seedu.address.model.person.query.Query;
+import seedu.address.model.person.query.TermQuery;
+
+/**
+ * Parses a boolean find query into a {@code Query}.
+ *
+ * A query is made of conditions of the form {@code n/KEYWORD}, {@code t/KEYWORD} or {@code r/KEYWORD}, combined with
+ * the operators {@code AND}, {@code OR} and {@code NOT} (in upper case) and grouped with parentheses.
+ * {@code NOT} binds tightest, then {@code AND}, then {@code OR}. Conditions written one after another without an
+ * operator between them combine as in a plain find: the persons matching any keyword of each field given,
+ * for all fields given. A keyword runs up to the next condition, operator or parenthesis, so it may contain spaces,
+ * but not an operator as a word of its own, an opening parenthesis at the start of a word or a closing parenthesis
+ * at the end of one.
+ */
+public class QueryParser {
+
+    public static final String OPERATOR_AND = "AND";
+    public static final String OPERATOR_OR = "OR";
+    public static final String OPERATOR_NOT = "NOT";
+
+    public static final String MESSAGE_MISSING_OPERAND = "Operator %1$s is missing a condition after it.";
+    public static final String MESSAGE_MISSING_OPERATOR = "Expected AND or OR before '%1$s'.";
+    public static final String MESSAGE_UNBALANCED_PARENTHESES = "Parentheses in the search query are not balanced.";
+
+    private static final Prefix[] FIELD_PREFIXES = {PREFIX_NAME, PREFIX_TAG, PREFIX_MODULE};
+    private static final Prefix[] OTHER_PREFIXES = {PREFIX_PHONE, PREFIX_EMAIL, PREFIX_ADDRESS, PREFIX_DESCRIPTION};
+
+    private List<Token> tokens;
+    private int position;
+
+    /**
+     * Returns true if {@code args} is written as a boolean query, by having an operator or starting a condition
+     * with a parenthesis, rather than as the conditions of a plain find.
+     */
+    public static boolean isQuery(String args) {
+        for (String word : args.trim().split("\\s+")) {
+            if (word.equals(OPERATOR_AND) || word.equals(OPERATOR_OR) || word.equals(OPERATOR_NOT)) {
+                return true;
+            }
+            String unparenthesizedWord = stripLeading(word, '(');
+            if (unparenthesizedWord.length() < word.length()
+                    && (unparenthesizedWord.isEmpty() || getFieldPrefix(unparenthesizedWord) != null)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Parses {@code query} into a {@code Query}.
+     *
+     * @throws ParseException if {@code query} is not a valid query.
+     */
+    public Query parse(String query) throws ParseException {
+        tokens = tokenize(query);
+        position = 0;
+        if (tokens.isEmpty()) {
+            throw new ParseException(Messages.getErrorMessageWithUsage(
+                    FindCommandParser.MESSAGE_MISSING_SEARCH_KEYWORD, FindCommand.MESSAGE_USAGE));
+        }
+
+        Query parsedQuery = parseOr();
+        if (position < tokens.size()) {
+            Token token = tokens.get(position);
+            if (token.type == TokenType.CLOSE) {
+                throw newParseException(MESSAGE_UNBALANCED_PARENTHESES);
+            }
+            throw newParseException(String.format(MESSAGE_MISSING_OPERATOR, token.text));
+        }
+        return parsedQuery;
+    }
+
+    private Query parseOr() throws ParseException {
+        List<Query> operands = new ArrayList<>();
+        operands.add(parseAnd());
+        while (isNextOperator(OPERATOR_OR)) {
+            position++;
+            operands.add(parseAnd());
+        }
+        return operands.size() == 1 ? operands.get(0) : new OrQuery(operands);
+    }
+
+    private Query parseAnd() throws ParseException {
+        List<Query> operands = new ArrayList<>();
+        operands.add(parseNot());
+        while (isNextOperator(OPERATOR_AND)) {
+            position++;
+            operands.add(parseNot());
+        }
+        return operands.size() == 1 ? operands.get(0) : new AndQuery(operands);
+    }
+
+    private Query parseNot() throws ParseException {
+        if (position == tokens.size()) {
+            throw newMissingOperandException();
+        }
+
+        Token token = tokens.get(position);
+        switch (token.type) {
+        case OPERATOR:
+            if (!token.text.equals(OPERATOR_NOT)) {
+                throw newMissingOperandException();
+            }
+            position++;
+            return new NotQuery(parseNot());
+        case OPEN:
+            position++;
+            Query query = parseOr();
+            if (position == tokens.size() || tokens.get(position).type != TokenType.CLOSE) {
+                throw newParseException(MESSAGE_UNBALANCED_PARENTHESES);
+            }
+            position++;
+            return query;
+        case CONDITION:
+            return parseConditions();
+        case CLOSE:
+            throw newParseException(MESSAGE_UNBALANCED_PARENTHESES);
+        default:
+            throw newParseException(MESSAGE_UNEXPECTED_PREAMBLE);
+        }
+    }
+
+    /**
+     * Parses the conditions written one after another from the current token, combining the keywords of each field
+     * with OR and the fields with AND, in the same order as a plain find.
+     */
+    private Query parseConditions() throws ParseException {
+        Map<Prefix, List<String>> keywordsByPrefix = new LinkedHashMap<>();
+        for (Prefix prefix : FIELD_PREFIXES) {
+            keywordsByPrefix.put(prefix, new ArrayList<>());
+        }
+
+        while (position < tokens.size() && tokens.get(position).type == TokenType.CONDITION) {
+            Token condition = tokens.get(position++);
+            StringBuilder keyword = new StringBuilder(condition.text);
+            while (position < tokens.size() && tokens.get(position).type == TokenType.WORD) {
+                keyword.append(keyword.length() == 0 ? "" : " ").append(tokens.get(position++).text);
+            }
+            if (keyword.toString().isBlank()) {
+                throw newParseException(MESSAGE_EMPTY_FIND_KEYWORD);
+            }
+            keywordsByPrefix.get(condition.prefix).add(keyword.toString());
+        }
+
+        List<Query> terms = new ArrayList<>();
+        List<String> nameKeywords = keywordsByPrefix.get(PREFIX_NAME);
+        if (!nameKeywords.isEmpty()) {
+            terms.add(new TermQuery(new NameContainsKeywordsPredicate(nameKeywords), nameKeywords));
+        }
+        List<String> tagKeywords = keywordsByPrefix.get(PREFIX_TAG);
+        if (!tagKeywords.isEmpty()) {
+            terms.add(new TermQuery(new TagContainsKeywordsPredicate(tagKeywords), tagKeywords));
+        }
+        List<String> moduleRoleKeywords = keywordsByPrefix.get(PREFIX_MODULE);
+        if (!moduleRoleKeywords.isEmpty()) {
+            ModuleRoleContainsKeywordsPredicate predicate =
+                    new ModuleRoleContainsKeywordsPredicate(ParserUtil.parseModuleRolePairs(moduleRoleKeywords));
+            terms.add(new TermQuery(predicate, predicate.getModuleRolePairs()));
+        }
+        return terms.size() == 1 ? terms.get(0) : new AndQuery(terms);
+    }
+
+    /**
+     * Returns the exception for a missing condition at the current token, after an operator or opening parenthesis.
+     */
+    private ParseException newMissingOperandException() {
+        Token previousToken = position == 0 ? null : tokens.get(position - 1);
+        if (previousToken != null && previousToken.type == TokenType.OPERATOR) {
+            return newParseException(String.format(MESSAGE_MISSING_OPERAND, previousToken.text));
+        }
+        if (position < tokens.size()) {
+            // an AND or OR with nothing before it
+            return newParseException(String.format(MESSAGE_MISSING_OPERAND, tokens.get(position).text));
+        }
+        return newParseException(MESSAGE_UNBALANCED_PARENTHESES);
+    }
+
+    private boolean isNextOperator(String operator) {
+        return position < tokens.size() && tokens.get(position).type == TokenType.OPERATOR
+                && tokens.get(position).text.equals(operator);
+    }
+
+    /**
+     * Splits {@code query} into tokens at whitespace, with parentheses at the start and end of words
+     * split off as tokens of their own.
+     */
+    private static List<Token> tokenize(String query) throws ParseException {
+        List<Token> tokens = new ArrayList<>();
+        for (String word : query.trim().split("\\s+")) {
+            if (word.isEmpty()) {
+                continue;
+            }
+
+            String unopenedWord = stripLeading(word, '(');
+            for (int i = unopenedWord.length(); i < word.length(); i++) {
+                tokens.add(new Token(TokenType.OPEN, "(", null));
+            }
+            String strippedWord = stripTrailing(unopenedWord, ')');
+            if (!strippedWord.isEmpty()) {
+                tokens.add(toToken(strippedWord));
+            }
+            for (int i = strippedWord.length(); i < unopenedWord.length(); i++) {
+                tokens.add(new Token(TokenType.CLOSE, ")", null));
+            }
+        }
+        return tokens;
+    }
+
+    private static Token toToken(String word) throws ParseException {
+        if (word.equals(OPERATOR_AND) || word.equals(OPERATOR_OR) || word.equals(OPERATOR_NOT)) {
+            return new Token(TokenType.OPERATOR, word, null);
+        }
+
+        Prefix prefix = getFieldPrefix(word);
+        if (prefix != null) {
+            return new Token(TokenType.CONDITION, word.substring(prefix.getPrefix().length()), prefix);
+        }
+
+        Prefix[] unexpectedPrefixes = Stream.of(OTHER_PREFIXES)
+                .filter(otherPrefix -> word.startsWith(otherPrefix.getPrefix()))
+                .toArray(Prefix[]::new);
+        if (unexpectedPrefixes.length > 0) {
+            throw newParseException(Messages.getErrorMessageForUnexpectedPrefixes(unexpectedPrefixes));
+        }
+        return new Token(TokenType.WORD, word, null);
+    }
+
+    private static Prefix getFieldPrefix(String word) {
+        for (Prefix prefix : FIELD_PREFIXES) {
+            if (word.startsWith(prefix.getPrefix())) {
+                return prefix;
+            }
+        }
+        return null;
+    }
+
+    private static String stripLeading(String word, char character) {
+        int start = 0;
+        while (start < word.length() && word.charAt(start) == character) {
+            start++;
+        }
+        return word.substring(start);
+    }
+
+    private static String stripTrailing(String word, char character) {
+        int end = word.length();
+        while (end > 0 && word.charAt(end - 1) == character) {
+            end--;
+        }
+        return word.substring(0, end);
+    }
+
+    private static ParseException newParseException(String message) {
+        return new ParseException(Messages.getErrorMessageWithUsage(message, FindCommand.MESSAGE_USAGE));
+    }
+
+    private enum TokenType {
+        OPEN, CLOSE, OPERATOR, CONDITION, WORD
+    }
+
+    /**
+     * A word of a query. The text of a condition is the part of its keyword after the prefix.
+     */
+    private static class Token {
+        private final TokenType type;
+        private final String text;
+        private final Prefix prefix;
+
+        Token(TokenType type, String text, Prefix prefix) {
+            this.type = type;
+            this.text = text;
+            this.prefix = prefix;
+        }
+    }
+}
@@ -7,6 +7,7 @@ import java.util.List;
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonIndex;
 import seedu.address.model.person.UniquePersonList;
 
 /**
@@ -16,6 +17,7 @@ import seedu.address.model.person.UniquePersonList;
 public class AddressBook implements ReadOnlyAddressBook {
 
     private final UniquePersonList persons;
+    private long modificationCount;
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -46,14 +48,21 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setPersons(List<Person> persons) {
         this.persons.setPersons(persons);
+        markModified();
     }
 
     /**
      * Resets the existing data of this {@code AddressBook} with {@code newData}.
+     * Persons copied from another {@code AddressBook} are already known to be unique and are not checked again.
      */
     public void resetData(ReadOnlyAddressBook newData) {
         requireNonNull(newData);
 
+        if (newData instanceof AddressBook) {
+            persons.setPersons(((AddressBook) newData).getUniquePersonList());
+            markModified();
+            return;
+        }
         setPersons(newData.getPersonList());
     }
 
@@ -89,6 +98,16 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void addPerson(Person p) {
         persons.add(p);
+        markModified();
+    }
+
+    /**
+     * Inserts a person into the address book at {@code index}.
+     * The person must not already exist in the address book.
+     */
+    void addPerson(int index, Person p) {
+        persons.add(index, p);
+        markModified();
     }
 
     /**
@@ -100,6 +119,18 @@ public class AddressBook implements ReadOnlyAddressBook {
         requireNonNull(editedPerson);
 
         persons.setPerson(target, editedPerson);
+        markModified();
+    }
+
+    /**
+     * Replaces the person at {@code index} with {@code editedPerson}.
+     * The person identity of {@code editedPerson} must not be the same as another existing person in the address book.
+     */
+    void setPerson(int index, Person editedPerson) {
+        requireNonNull(editedPerson);
+
+        persons.setPerson(index, editedPerson);
+        markModified();
     }
 
     /**
@@ -108,6 +139,22 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void removePerson(Person key) {
         persons.remove(key);
+        markModified();
+    }
+
+    /**
+     * Removes the person at {@code index} from this {@code AddressBook}.
+     */
+    void removePerson(int index) {
+        persons.remove(index);
+        markModified();
+    }
+
+    /**
+     * Records that the persons list of this {@code AddressBook} has been modified.
+     */
+    protected void markModified() {
+        modificationCount++;
     }
 
     //// util methods
@@ -124,6 +171,26 @@ public class AddressBook implements ReadOnlyAddressBook {
         return persons.asUnmodifiableObservableList();
     }
 
+    /**
+     * Returns the list backing {@link #getPersonList()}, whose persons are known to be unique.
+     */
+    protected UniquePersonList getUniquePersonList() {
+        return persons;
+    }
+
+    /**
+     * Returns the index of the names, module codes, module-role pairs and tags of the persons in this address book,
+     * which is kept up to date as persons are added, replaced and removed.
+     */
+    public PersonIndex getPersonIndex() {
+        return persons.getPersonIndex();
+    }
+
+    @Override
+    public long getModificationCount() {
+        return modificationCount;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -131,11 +198,11 @@ public class AddressBook implements ReadOnlyAddressBook {
         }
 
         // instanceof handles nulls
-        if (!(other instanceof AddressBook)) {
+        if (!(other instanceof AddressBook) && !(other instanceof AddressBookState)) {
             return false;
         }
 
-        AddressBook otherAddressBook = (AddressBook) other;
+        ReadOnlyAddressBook otherAddressBook = (ReadOnlyAddressBook) other;
         // changed from .persons to .getPersonList() for correct overridden behavior implemented in VersionedAddressBook
         return getPersonList().equals(otherAddressBook.getPersonList());
     }
@@ -0,0 +1,231 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.commons.util.PersistentList;
+import seedu.address.model.person.Person;
+
+/**
+ * The changes made to an {@code AddressBook} between two of its states, in the order they were made.
+ * Each change records both what it added and what it removed, so the changes can be applied to the earlier
+ * state to reach the later one, or reverted on the later state to return to the earlier one,
+ * in time proportional to the number of persons changed rather than the size of the address book.
+ */
+class AddressBookDelta {
+
+    // Rough heap sizes, in bytes, used to estimate the memory held by a delta
+    private static final long CHANGE_BYTES = 48;
+    private static final long PERSON_BYTES = 160;
+    private static final long FIELD_BYTES = 56;
+    private static final long TAG_BYTES = 72;
+    private static final long MODULE_ROLE_BYTES = 96;
+
+    private final List<Change> changes = new ArrayList<>();
+    private long estimatedSize;
+    private boolean hasReset;
+
+    /**
+     * Records that {@code added} was inserted at {@code index}.
+     */
+    public void recordAdd(int index, Person added) {
+        changes.add(new PersonChange(index, null, requireNonNull(added)));
+        estimatedSize += CHANGE_BYTES + estimateSize(added);
+    }
+
+    /**
+     * Records that {@code removed} at {@code index} was replaced with {@code added}.
+     */
+    public void recordSet(int index, Person removed, Person added) {
+        changes.add(new PersonChange(index, requireNonNull(removed), requireNonNull(added)));
+        estimatedSize += CHANGE_BYTES + estimateSize(removed) + estimateSize(added);
+    }
+
+    /**
+     * Records that {@code removed} was removed from {@code index}.
+     */
+    public void recordRemove(int index, Person removed) {
+        changes.add(new PersonChange(index, requireNonNull(removed), null));
+        estimatedSize += CHANGE_BYTES + estimateSize(removed);
+    }
+
+    /**
+     * Records that all persons were replaced, changing the persons from {@code before} to {@code after}.
+     */
+    public void recordReset(PersistentList<Person> before, PersistentList<Person> after) {
+        changes.add(new ResetChange(requireNonNull(before), requireNonNull(after)));
+        hasReset = true;
+        estimatedSize += CHANGE_BYTES;
+        for (Person person : before) {
+            estimatedSize += estimateSize(person);
+        }
+        for (Person person : after) {
+            estimatedSize += estimateSize(person);
+        }
+    }
+
+    public boolean isEmpty() {
+        return changes.isEmpty();
+    }
+
+    /**
+     * Returns true if all persons were replaced at once by one of the recorded changes.
+     */
+    public boolean hasReset() {
+        return hasReset;
+    }
+
+    /**
+     * Returns an estimate of the heap memory, in bytes, taken up by the recorded changes and the persons they hold.
+     * Persons shared with other deltas or with the current address book are counted in full.
+     */
+    public long getEstimatedSize() {
+        return estimatedSize;
+    }
+
+    /**
+     * Makes the recorded changes to {@code addressBook}, which must be in the state the changes were made to.
+     */
+    public void applyTo(AddressBook addressBook) {
+        for (Change change : changes) {
+            change.applyTo(addressBook);
+        }
+    }
+
+    /**
+     * Undoes the recorded changes on {@code addressBook}, which must be in the state the changes resulted in.
+     */
+    public void revert(AddressBook addressBook) {
+        for (int i = changes.size() - 1; i >= 0; i--) {
+            changes.get(i).revert(addressBook);
+        }
+    }
+
+    /**
+     * Returns the net differences made by {@code deltas}, applied in order, in time proportional to the number of
+     * changes recorded in them. None of the deltas may have a reset.
+     * A person replaced by one or more edits is reported as a single changed person.
+     */
+    public static AddressBookDiff getNetChanges(List<AddressBookDelta> deltas) {
+        // Maps each person present after the changes so far to the person it replaced, or to null if it was added
+        Map<Person, Person> originals = new LinkedHashMap<>();
+        Set<Person> removed = new LinkedHashSet<>();
+        for (AddressBookDelta delta : deltas) {
+            assert !delta.hasReset : "Net changes of a reset are not tracked";
+            for (Change change : delta.changes) {
+                PersonChange personChange = (PersonChange) change;
+                Person original = personChange.removed;
+                if (original != null && originals.containsKey(original)) {
+                    original = originals.remove(original);
+                }
+
+                if (personChange.added == null) {
+                    if (original != null) {
+                        removed.add(original);
+                    }
+                } else if (original == null && removed.remove(personChange.added)) {
+                    originals.put(personChange.added, personChange.added);
+                } else {
+                    originals.put(personChange.added, original);
+                }
+            }
+        }
+
+        List<Person> added = new ArrayList<>();
+        List<AddressBookDiff.ChangedPerson> changed = new ArrayList<>();
+        for (Map.Entry<Person, Person> entry : originals.entrySet()) {
+            if (entry.getValue() == null) {
+                added.add(entry.getKey());
+            } else if (!entry.getValue().equals(entry.getKey())) {
+                changed.add(new AddressBookDiff.ChangedPerson(entry.getValue(), entry.getKey()));
+            }
+        }
+        return new AddressBookDiff(added, new ArrayList<>(removed), changed);
+    }
+
+    private static long estimateSize(Person person) {
+        long size = PERSON_BYTES + FIELD_BYTES + 2L * person.getName().fullName.length();
+        size += person.getPhone().map(phone -> FIELD_BYTES + 2L * phone.value.length()).orElse(0L);
+        size += person.getEmail().map(email -> FIELD_BYTES + 2L * email.value.length()).orElse(0L);
+        size += person.getAddress().map(address -> FIELD_BYTES + 2L * address.value.length()).orElse(0L);
+        size += person.getDescription().map(description -> FIELD_BYTES + 2L * description.value.length())
+                .orElse(0L);
+        size += TAG_BYTES * person.getTags().size();
+        size += MODULE_ROLE_BYTES * person.getModuleRoleMap().size();
+        return size;
+    }
+
+    /**
+     * A single change that can be made and undone.
+     */
+    private interface Change {
+        void applyTo(AddressBook addressBook);
+
+        void revert(AddressBook addressBook);
+    }
+
+    /**
+     * The insertion, replacement or removal of one person at an index.
+     * {@code removed} is null for an insertion and {@code added} is null for a removal.
+     */
+    private static class PersonChange implements Change {
+        private final int index;
+        private final Person removed;
+        private final Person added;
+
+        PersonChange(int index, Person removed, Person added) {
+            this.index = index;
+            this.removed = removed;
+            this.added = added;
+        }
+
+        @Override
+        public void applyTo(AddressBook addressBook) {
+            replace(addressBook, removed, added);
+        }
+
+        @Override
+        public void revert(AddressBook addressBook) {
+            replace(addressBook, added, removed);
+        }
+
+        private void replace(AddressBook addressBook, Person from, Person to) {
+            if (from == null) {
+                addressBook.addPerson(index, to);
+            } else if (to == null) {
+                addressBook.removePerson(index);
+            } else {
+                addressBook.setPerson(index, to);
+            }
+        }
+    }
+
+    /**
+     * The replacement of all persons.
+     */
+    private static class ResetChange implements Change {
+        private final PersistentList<Person> before;
+        private final PersistentList<Person> after;
+
+        ResetChange(PersistentList<Person> before, PersistentList<Person> after) {
+            this.before = before;
+            this.after = after;
+        }
+
+        @Override
+        public void applyTo(AddressBook addressBook) {
+            addressBook.resetData(new AddressBookState(after));
+        }
+
+        @Override
+        public void revert(AddressBook addressBook) {
+            addressBook.resetData(new AddressBookState(before));
+        }
+    }
+}
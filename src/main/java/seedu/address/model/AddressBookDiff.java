@@ -0,0 +1,197 @@
+package seedu.address.model;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+
+/**
+ * The persons that differ between two states of the address book.
+ * Guarantees: immutable.
+ */
+public class AddressBookDiff {
+
+    private final List<Person> added;
+    private final List<Person> removed;
+    private final List<ChangedPerson> changed;
+
+    /**
+     * Creates a diff of the given persons. Every field must be present and not null.
+     */
+    public AddressBookDiff(List<Person> added, List<Person> removed, List<ChangedPerson> changed) {
+        requireAllNonNull(added, removed, changed);
+        this.added = Collections.unmodifiableList(new ArrayList<>(added));
+        this.removed = Collections.unmodifiableList(new ArrayList<>(removed));
+        this.changed = Collections.unmodifiableList(new ArrayList<>(changed));
+    }
+
+    /**
+     * Returns the differences between the persons {@code before} and the persons {@code after}, in O(n) time.
+     * A person removed and a person added with the same identity, as defined by {@code Person#isSamePerson(Person)},
+     * are reported as one changed person.
+     */
+    public static AddressBookDiff between(List<Person> before, List<Person> after) {
+        requireAllNonNull(before, after);
+        Set<Person> beforeSet = new HashSet<>(before);
+        Set<Person> afterSet = new HashSet<>(after);
+
+        List<Person> removedCandidates = new ArrayList<>();
+        Map<Phone, Person> removedByPhone = new HashMap<>();
+        Map<Email, Person> removedByEmail = new HashMap<>();
+        for (Person person : before) {
+            if (!afterSet.contains(person)) {
+                removedCandidates.add(person);
+                person.getPhone().ifPresent(phone -> removedByPhone.put(phone, person));
+                person.getEmail().ifPresent(email -> removedByEmail.put(email, person));
+            }
+        }
+
+        List<Person> added = new ArrayList<>();
+        List<ChangedPerson> changed = new ArrayList<>();
+        Set<Person> paired = new HashSet<>();
+        for (Person person : after) {
+            if (beforeSet.contains(person)) {
+                continue;
+            }
+            Person original = person.getPhone().map(removedByPhone::get)
+                    .orElseGet(() -> person.getEmail().map(removedByEmail::get).orElse(null));
+            if (original != null && paired.add(original)) {
+                changed.add(new ChangedPerson(original, person));
+            } else {
+                added.add(person);
+            }
+        }
+
+        List<Person> removed = new ArrayList<>();
+        for (Person person : removedCandidates) {
+            if (!paired.contains(person)) {
+                removed.add(person);
+            }
+        }
+        return new AddressBookDiff(added, removed, changed);
+    }
+
+    public List<Person> getAdded() {
+        return added;
+    }
+
+    public List<Person> getRemoved() {
+        return removed;
+    }
+
+    public List<ChangedPerson> getChanged() {
+        return changed;
+    }
+
+    public boolean isEmpty() {
+        return added.isEmpty() && removed.isEmpty() && changed.isEmpty();
+    }
+
+    /**
+     * Returns the diff that undoes this one, with added and removed persons swapped
+     * and every changed person reversed.
+     */
+    public AddressBookDiff inverse() {
+        List<ChangedPerson> inverseChanged = new ArrayList<>();
+        for (ChangedPerson changedPerson : changed) {
+            inverseChanged.add(new ChangedPerson(changedPerson.getAfter(), changedPerson.getBefore()));
+        }
+        return new AddressBookDiff(removed, added, inverseChanged);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof AddressBookDiff)) {
+            return false;
+        }
+
+        AddressBookDiff otherDiff = (AddressBookDiff) other;
+        return added.equals(otherDiff.added)
+                && removed.equals(otherDiff.removed)
+                && changed.equals(otherDiff.changed);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(added, removed, changed);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("added", added)
+                .add("removed", removed)
+                .add("changed", changed)
+                .toString();
+    }
+
+    /**
+     * A person as it was before and after being edited.
+     */
+    public static class ChangedPerson {
+        private final Person before;
+        private final Person after;
+
+        /**
+         * Every field must be present and not null.
+         */
+        public ChangedPerson(Person before, Person after) {
+            requireAllNonNull(before, after);
+            this.before = before;
+            this.after = after;
+        }
+
+        public Person getBefore() {
+            return before;
+        }
+
+        public Person getAfter() {
+            return after;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            // instanceof handles nulls
+            if (!(other instanceof ChangedPerson)) {
+                return false;
+            }
+
+            ChangedPerson otherChangedPerson = (ChangedPerson) other;
+            return before.equals(otherChangedPerson.before)
+                    && after.equals(otherChangedPerson.after);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(before, after);
+        }
+
+        @Override
+        public String toString() {
+            return new ToStringBuilder(this)
+                    .add("before", before)
+                    .add("after", after)
+                    .toString();
+        }
+    }
+}
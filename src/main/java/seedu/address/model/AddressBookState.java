@@ -0,0 +1,82 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.util.PersistentList;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Person;
+
+/**
+ * An unmodifiable state of the address book kept in the undo history.
+ * Its person list is a view of the underlying {@code PersistentList}, so creating one copies no persons.
+ */
+public class AddressBookState implements ReadOnlyAddressBook {
+
+    private final PersistentList<Person> persons;
+    private final ObservableList<Person> personList;
+
+    /**
+     * Creates a state holding {@code persons}, which must not contain duplicate persons.
+     */
+    public AddressBookState(PersistentList<Person> persons) {
+        requireNonNull(persons);
+        this.persons = persons;
+        this.personList = FXCollections.unmodifiableObservableList(FXCollections.observableList(persons.asList()));
+    }
+
+    public PersistentList<Person> getPersons() {
+        return persons;
+    }
+
+    @Override
+    public ObservableList<Person> getPersonList() {
+        return personList;
+    }
+
+    /**
+     * Returns 0, as a state never changes.
+     */
+    @Override
+    public long getModificationCount() {
+        return 0;
+    }
+
+    /**
+     * Returns this state, as it never changes.
+     */
+    @Override
+    public ReadOnlyAddressBook getSnapshot() {
+        return this;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (other instanceof AddressBookState) {
+            return persons.equals(((AddressBookState) other).persons);
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof AddressBook)) {
+            return false;
+        }
+        return personList.equals(((AddressBook) other).getPersonList());
+    }
+
+    @Override
+    public int hashCode() {
+        return persons.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("persons", persons)
+                .toString();
+    }
+}
@@ -9,6 +9,7 @@ import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.history.HistoryCommand;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonIndex;
 
 /**
  * The API of the Model component.
@@ -81,9 +82,15 @@ public interface Model {
     void redoAddressBook() throws CommandException;
 
     /**
-     * Gets the AddressBook in previous state at specific index for testing purpose.
+     * Returns an unmodifiable view of the committed AddressBook state at {@code index}, oldest first.
      */
-    AddressBook getVersionedAddressBook(int index);
+    ReadOnlyAddressBook getVersionedAddressBook(int index);
+
+    /**
+     * Returns the persons that differ between the committed AddressBook states at {@code fromIndex}
+     * and {@code toIndex}.
+     */
+    AddressBookDiff getAddressBookChanges(int fromIndex, int toIndex);
 
     /**
      * Returns true if a person with the same identity as {@code person} exists in the address book.
@@ -119,6 +126,11 @@ public interface Model {
      */
     void setPerson(Person target, Person editedPerson);
 
+    /**
+     * Returns the index of the names, module codes, module-role pairs and tags of all persons in the address book.
+     */
+    PersonIndex getPersonIndex();
+
     /** Returns an unmodifiable view of the filtered person list */
     ObservableList<Person> getFilteredPersonList();
 
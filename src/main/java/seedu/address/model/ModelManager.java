@@ -17,6 +17,7 @@ import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.history.HistoryCommand;
 import seedu.address.model.history.HistoryCommandList;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonIndex;
 
 /**
  * Represents the in-memory model of the address book data.
@@ -39,7 +40,7 @@ public class ModelManager implements Model {
 
         this.userPrefs = new UserPrefs(userPrefs);
         historyCommandList = new HistoryCommandList();
-        versionedAddressBook = new VersionedAddressBook(addressBook);
+        versionedAddressBook = new VersionedAddressBook(addressBook, userPrefs.getHistorySettings());
         filteredPersons = new FilteredList<>(this.versionedAddressBook.getPersonList());
     }
 
@@ -94,12 +95,14 @@ public class ModelManager implements Model {
         return versionedAddressBook;
     }
 
-    /**
-     * Gets the AddressBook in previous state at specific index for testing purpose.
-     */
     @Override
-    public AddressBook getVersionedAddressBook(int index) {
-        return new AddressBook(versionedAddressBook.getAddressBookStateList().get(index));
+    public ReadOnlyAddressBook getVersionedAddressBook(int index) {
+        return versionedAddressBook.getAddressBookState(index);
+    }
+
+    @Override
+    public AddressBookDiff getAddressBookChanges(int fromIndex, int toIndex) {
+        return versionedAddressBook.getChanges(fromIndex, toIndex);
     }
 
     /**
@@ -159,7 +162,6 @@ public class ModelManager implements Model {
     @Override
     public void addPerson(Person person) {
         versionedAddressBook.addPerson(person);
-        updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
     }
 
     @Override
@@ -169,6 +171,11 @@ public class ModelManager implements Model {
         versionedAddressBook.setPerson(target, editedPerson);
     }
 
+    @Override
+    public PersonIndex getPersonIndex() {
+        return versionedAddressBook.getPersonIndex();
+    }
+
     //=========== Filtered Person List Accessors =============================================================
 
     /**
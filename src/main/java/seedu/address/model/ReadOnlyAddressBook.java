@@ -1,6 +1,7 @@
 package seedu.address.model;
 
 import javafx.collections.ObservableList;
+import seedu.address.commons.util.PersistentList;
 import seedu.address.model.person.Person;
 
 /**
@@ -14,4 +15,19 @@ public interface ReadOnlyAddressBook {
      */
     ObservableList<Person> getPersonList();
 
+    /**
+     * Returns the number of modifications made to the persons list so far.
+     * The count only ever increases, so an unchanged count means the persons list is unchanged.
+     */
+    long getModificationCount();
+
+    /**
+     * Returns an unmodifiable copy of this address book as it is now, which later changes to it do not affect.
+     * The copy is safe to read from another thread.
+     * By default, the persons are copied; address books that already keep an immutable copy return it instead.
+     */
+    default ReadOnlyAddressBook getSnapshot() {
+        return new AddressBookState(PersistentList.of(getPersonList()));
+    }
+
 }
@@ -1,18 +1,29 @@
 package seedu.address.model;
 
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractList;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
+import seedu.address.commons.core.HistorySettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.PersistentList;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonIndex;
 import seedu.address.model.person.UniquePersonList;
 
 /**
  * Represents the different states of the Address Book for the user.
+ * Each state is a {@code PersistentList} of persons that shares structure with the states before and after it,
+ * so a commit after a single change costs O(log n) time and memory rather than a full copy of the persons.
+ * The changes between consecutive states are kept as {@code AddressBookDelta}s, and undo and redo apply them to
+ * the current address book in place, in time proportional to the number of persons changed.
+ * The oldest states are forgotten once the history exceeds the limits in its {@code HistorySettings}.
  */
 public class VersionedAddressBook extends AddressBook {
     public static final String MESSAGE_NO_MORE_HISTORY = "No more past data changes to undo.";
@@ -21,10 +32,20 @@ public class VersionedAddressBook extends AddressBook {
             + "Please commit or discard the changes before undoing.";
     public static final String MESSAGE_UNSAVED_CHANGES_REDO = "There are unsaved changes in the current state."
             + "Please discard the changes before redoing.";
-    private final ArrayList<AddressBook> addressBookStateList;
+    private final ArrayList<PersistentList<Person>> addressBookStateList;
+    // The i-th delta leads from state i - 1 to state i; the first is always empty
+    private final ArrayList<AddressBookDelta> addressBookDeltaList;
     private int currentStatePointer;
-    private AddressBook current;
-    private UniquePersonList persons;
+    private final AddressBook current;
+    // The persons of current, kept up to date with every change so that it can be committed as is
+    private PersistentList<Person> currentState;
+    // The changes made to current since the state at currentStatePointer
+    private AddressBookDelta uncommittedChanges;
+    // The modification count when the current state was last committed or returned to
+    private long committedModificationCount;
+    private final HistorySettings historySettings;
+    // The total estimated size of the deltas in addressBookDeltaList
+    private long historySize;
     private Logger logger = LogsCenter.getLogger(VersionedAddressBook.class);
 
 
@@ -32,26 +53,31 @@ public class VersionedAddressBook extends AddressBook {
      * Constructs an empty state list for the address book.
      */
     public VersionedAddressBook() {
-        addressBookStateList = new ArrayList<>();
-        currentStatePointer = -1;
-        current = new AddressBook();
-        persons = new UniquePersonList();
-        syncPersonList();
-        this.commitAddressBook();
-        logger.info("VersionedAddressBook initialized with no data");
+        this(new AddressBook());
     }
 
     /**
      * Constructs a state list for the address book and saves the initial copy.
      */
     public VersionedAddressBook(ReadOnlyAddressBook addressBook) {
+        this(addressBook, new HistorySettings());
+    }
+
+    /**
+     * Constructs a state list for the address book, limited by {@code historySettings},
+     * and saves the initial copy.
+     */
+    public VersionedAddressBook(ReadOnlyAddressBook addressBook, HistorySettings historySettings) {
+        requireNonNull(historySettings);
+        this.historySettings = historySettings;
         addressBookStateList = new ArrayList<>();
+        addressBookDeltaList = new ArrayList<>();
         currentStatePointer = -1;
         current = new AddressBook(addressBook);
-        persons = new UniquePersonList();
-        syncPersonList();
+        currentState = PersistentList.of(current.getPersonList());
+        uncommittedChanges = new AddressBookDelta();
         this.commitAddressBook();
-        logger.info("VersionedAddressBook initialized with data: " + addressBook);
+        logger.info("VersionedAddressBook initialized with " + current.getPersonList().size() + " persons");
     }
 
     /**
@@ -60,9 +86,17 @@ public class VersionedAddressBook extends AddressBook {
     public void commitAddressBook() {
         currentStatePointer++;
         addressBookStateList.subList(currentStatePointer, addressBookStateList.size()).clear();
-        addressBookStateList.add(currentStatePointer, new AddressBook(current));
-        logger.info("AddressBook state committed, current state pointer at " + currentStatePointer
-                + "\n Data: " + current);
+        List<AddressBookDelta> undoneDeltas =
+                addressBookDeltaList.subList(currentStatePointer, addressBookDeltaList.size());
+        undoneDeltas.forEach(delta -> historySize -= delta.getEstimatedSize());
+        undoneDeltas.clear();
+        addressBookStateList.add(currentStatePointer, currentState);
+        addressBookDeltaList.add(currentStatePointer, uncommittedChanges);
+        historySize += uncommittedChanges.getEstimatedSize();
+        uncommittedChanges = new AddressBookDelta();
+        committedModificationCount = getModificationCount();
+        evictOldestStates();
+        logger.info("AddressBook state committed, current state pointer at " + currentStatePointer);
     }
 
     /**
@@ -73,15 +107,16 @@ public class VersionedAddressBook extends AddressBook {
             throw new CommandException(MESSAGE_NO_MORE_HISTORY);
         }
 
-        if (!current.equals(addressBookStateList.get(currentStatePointer))) {
+        if (hasUnsavedChanges()) {
             throw new CommandException(MESSAGE_UNSAVED_CHANGES_UNDO);
         }
 
+        addressBookDeltaList.get(currentStatePointer).revert(current);
         currentStatePointer--;
-        current = new AddressBook(addressBookStateList.get(currentStatePointer));
-        syncPersonList();
-        logger.info("AddressBook state undone, current state pointer at " + currentStatePointer
-                + "\n Data: " + current);
+        currentState = addressBookStateList.get(currentStatePointer);
+        markModified();
+        committedModificationCount = getModificationCount();
+        logger.info("AddressBook state undone, current state pointer at " + currentStatePointer);
     }
 
     /**
@@ -92,90 +127,215 @@ public class VersionedAddressBook extends AddressBook {
             throw new CommandException(MESSAGE_NO_MORE_UNDONE_STATES);
         }
 
-        if (!current.equals(addressBookStateList.get(currentStatePointer))) {
+        if (hasUnsavedChanges()) {
             throw new CommandException(MESSAGE_UNSAVED_CHANGES_REDO);
         }
 
         currentStatePointer++;
-        current = new AddressBook(addressBookStateList.get(currentStatePointer));
-        syncPersonList();
-        logger.info("AddressBook state redone, current state pointer at " + currentStatePointer
-                + "\n Data: " + current);
+        addressBookDeltaList.get(currentStatePointer).applyTo(current);
+        currentState = addressBookStateList.get(currentStatePointer);
+        markModified();
+        committedModificationCount = getModificationCount();
+        logger.info("AddressBook state redone, current state pointer at " + currentStatePointer);
     }
 
     /**
      * Discards the unsaved changes in the current state.
      */
     public void discardUnsavedChanges() {
-        current = new AddressBook(addressBookStateList.get(currentStatePointer));
-        syncPersonList();
-        logger.info("Unsaved changes discarded, current state pointer at " + currentStatePointer
-                + "\n Data: " + current);
+        uncommittedChanges.revert(current);
+        uncommittedChanges = new AddressBookDelta();
+        currentState = addressBookStateList.get(currentStatePointer);
+        markModified();
+        committedModificationCount = getModificationCount();
+        logger.info("Unsaved changes discarded, current state pointer at " + currentStatePointer);
+    }
+
+    /**
+     * Returns true if the address book has been changed since its current state was committed, undone or redone.
+     * Takes constant time, as every change increments the modification count of the address book.
+     */
+    public boolean hasUnsavedChanges() {
+        return getModificationCount() != committedModificationCount;
+    }
+
+    /**
+     * Returns an unmodifiable view of the committed states, oldest first.
+     * No persons are copied, and getting any state takes constant time.
+     */
+    public List<ReadOnlyAddressBook> getAddressBookStateList() {
+        return new AbstractList<>() {
+            @Override
+            public ReadOnlyAddressBook get(int index) {
+                return getAddressBookState(index);
+            }
+
+            @Override
+            public int size() {
+                return addressBookStateList.size();
+            }
+        };
     }
 
     /**
-     * Return an unmodifiable list containing copies of the AddressBook instances for testing purpose.
+     * Returns an unmodifiable view of the committed state at {@code index}, in constant time.
      */
-    public ArrayList<AddressBook> getAddressBookStateList() {
-        ArrayList<AddressBook> copy = new ArrayList<>();
-        for (AddressBook addressBook : addressBookStateList) {
-            copy.add(new AddressBook(addressBook)); // Assuming AddressBook is immutable
+    public ReadOnlyAddressBook getAddressBookState(int index) {
+        return new AddressBookState(addressBookStateList.get(index));
+    }
+
+    /**
+     * Returns the persons that differ between the committed states at {@code fromIndex} and {@code toIndex}.
+     * Takes time proportional to the number of changes between the states,
+     * or to the number of persons if the address book was replaced or cleared in between.
+     */
+    public AddressBookDiff getChanges(int fromIndex, int toIndex) {
+        Objects.checkIndex(fromIndex, addressBookStateList.size());
+        Objects.checkIndex(toIndex, addressBookStateList.size());
+        if (fromIndex > toIndex) {
+            return getChanges(toIndex, fromIndex).inverse();
+        }
+
+        List<AddressBookDelta> deltas = addressBookDeltaList.subList(fromIndex + 1, toIndex + 1);
+        if (deltas.stream().anyMatch(AddressBookDelta::hasReset)) {
+            return AddressBookDiff.between(addressBookStateList.get(fromIndex).asList(),
+                    addressBookStateList.get(toIndex).asList());
         }
-        return copy;
+        return AddressBookDelta.getNetChanges(deltas);
     }
 
     @Override
     public void setPersons(List<Person> persons) {
-        getCurrentAddressBook().setPersons(persons);
-        syncPersonList();
+        current.setPersons(persons);
+        recordReset(PersistentList.of(persons));
     }
 
     @Override
     public void resetData(ReadOnlyAddressBook newData) {
-        getCurrentAddressBook().resetData(newData);
-        syncPersonList();
+        current.resetData(newData);
+        recordReset(newData instanceof AddressBookState
+                ? ((AddressBookState) newData).getPersons()
+                : PersistentList.of(current.getPersonList()));
     }
 
     @Override
     public boolean hasPhone(Person person) {
-        return getCurrentAddressBook().hasPhone(person);
+        return current.hasPhone(person);
     }
 
     @Override
     public boolean hasEmail(Person person) {
-        return getCurrentAddressBook().hasEmail(person);
+        return current.hasEmail(person);
     }
 
     @Override
     public boolean hasPerson(Person person) {
-        return getCurrentAddressBook().hasPerson(person);
+        return current.hasPerson(person);
     }
 
     @Override
     public void addPerson(Person p) {
-        getCurrentAddressBook().addPerson(p);
-        syncPersonList();
+        addPerson(currentState.size(), p);
+    }
+
+    @Override
+    void addPerson(int index, Person p) {
+        current.addPerson(index, p);
+        uncommittedChanges.recordAdd(index, p);
+        currentState = currentState.add(index, p);
+        markModified();
     }
 
     @Override
     public void setPerson(Person target, Person editedPerson) {
-        getCurrentAddressBook().setPerson(target, editedPerson);
-        syncPersonList();
+        int index = current.getPersonList().indexOf(target);
+        current.setPerson(target, editedPerson);
+        uncommittedChanges.recordSet(index, target, editedPerson);
+        currentState = currentState.set(index, editedPerson);
+        markModified();
+    }
+
+    @Override
+    void setPerson(int index, Person editedPerson) {
+        Person target = currentState.get(index);
+        current.setPerson(index, editedPerson);
+        uncommittedChanges.recordSet(index, target, editedPerson);
+        currentState = currentState.set(index, editedPerson);
+        markModified();
     }
 
     @Override
     public void removePerson(Person key) {
-        getCurrentAddressBook().removePerson(key);
-        syncPersonList();
+        int index = current.getPersonList().indexOf(key);
+        current.removePerson(key);
+        uncommittedChanges.recordRemove(index, key);
+        currentState = currentState.remove(index);
+        markModified();
+    }
+
+    @Override
+    void removePerson(int index) {
+        Person key = currentState.get(index);
+        current.removePerson(index);
+        uncommittedChanges.recordRemove(index, key);
+        currentState = currentState.remove(index);
+        markModified();
     }
 
     @Override
     public ObservableList<Person> getPersonList() {
-        return this.persons.asUnmodifiableObservableList();
+        return current.getPersonList();
+    }
+
+    /**
+     * Returns the persons of the current address book, including uncommitted changes, in constant time.
+     */
+    @Override
+    public ReadOnlyAddressBook getSnapshot() {
+        return new AddressBookState(currentState);
+    }
+
+    @Override
+    protected UniquePersonList getUniquePersonList() {
+        return current.getUniquePersonList();
+    }
+
+    @Override
+    public PersonIndex getPersonIndex() {
+        return current.getPersonIndex();
     }
 
-    private void syncPersonList() {
-        persons.setPersons(getCurrentAddressBook().getPersonList());
+    /**
+     * Forgets the oldest states until the history is within its limits.
+     * The current state and the one before it are always kept, so that the latest change can be undone
+     * however large it is, e.g. clearing a large address book; the limits only bound the older history.
+     */
+    private void evictOldestStates() {
+        int evictedCount = 0;
+        while (currentStatePointer > 1 && (addressBookStateList.size() > historySettings.getMaxStates()
+                || historySize > historySettings.getMaxBytes())) {
+            addressBookStateList.remove(0);
+            addressBookDeltaList.remove(0);
+            // the first remaining delta led from the evicted state, so it can no longer be undone
+            historySize -= addressBookDeltaList.get(0).getEstimatedSize();
+            addressBookDeltaList.set(0, new AddressBookDelta());
+            currentStatePointer--;
+            evictedCount++;
+        }
+        if (evictedCount > 0) {
+            logger.fine("Evicted " + evictedCount + " oldest AddressBook state(s) from the history");
+        }
+    }
+
+    /**
+     * Records that the persons of current were all replaced by {@code newState}, unless they are unchanged.
+     */
+    private void recordReset(PersistentList<Person> newState) {
+        if (!newState.equals(currentState)) {
+            uncommittedChanges.recordReset(currentState, newState);
+            currentState = newState;
+            markModified();
+        }
     }
 
     @Override
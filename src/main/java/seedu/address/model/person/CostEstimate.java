@@ -0,0 +1,116 @@
+package seedu.address.model.person;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * An estimate of how many persons a predicate matches and how much work it takes to look them up in a
+ * {@code PersonIndex}, made from the current contents of the index.
+ * Cost is measured in the persons and index entries visited, so that it can be compared against the cost of testing
+ * candidates one at a time, which is one unit per candidate.
+ * Guarantees: immutable.
+ */
+public class CostEstimate {
+
+    public static final String MESSAGE_CONSTRAINTS =
+            "Selectivity must be between 0 and 1, and cost must not be negative";
+
+    /** The cost of testing a single person against a predicate. */
+    public static final double TEST_COST = 1;
+
+    private final double selectivity;
+    private final double cost;
+
+    /**
+     * Constructs a {@code CostEstimate}.
+     *
+     * @param selectivity the estimated fraction of persons matched, from 0 to 1.
+     * @param cost the estimated cost of looking up all matching persons.
+     */
+    public CostEstimate(double selectivity, double cost) {
+        checkArgument(selectivity >= 0 && selectivity <= 1 && cost >= 0, MESSAGE_CONSTRAINTS);
+        this.selectivity = selectivity;
+        this.cost = cost;
+    }
+
+    /**
+     * Returns the estimate of a predicate expected to match {@code matchCount} of {@code personCount} persons,
+     * with a lookup visiting {@code cost} persons and index entries.
+     */
+    public static CostEstimate of(double matchCount, int personCount, double cost) {
+        double selectivity = personCount == 0 ? 0 : Math.min(1, matchCount / personCount);
+        return new CostEstimate(selectivity, cost);
+    }
+
+    public double getSelectivity() {
+        return selectivity;
+    }
+
+    public double getCost() {
+        return cost;
+    }
+
+    /**
+     * Returns the cost of finding the matching persons among {@code candidateCount} candidates,
+     * by looking them up or by testing the candidates, whichever is cheaper.
+     */
+    public double getCostAmong(double candidateCount) {
+        return Math.min(cost, candidateCount * TEST_COST);
+    }
+
+    /**
+     * Returns true if testing {@code candidateCount} candidates one at a time is cheaper than looking up
+     * all matching persons.
+     */
+    public boolean isTestingCheaper(int candidateCount) {
+        return candidateCount * TEST_COST < cost;
+    }
+
+    /**
+     * Returns the rank of this estimate among the operands of a conjunction, which are best evaluated in ascending
+     * order of rank: cheap operands that rule out many persons come first.
+     */
+    public double getConjunctionRank() {
+        return selectivity >= 1 ? Double.POSITIVE_INFINITY : cost / (1 - selectivity);
+    }
+
+    /**
+     * Returns the rank of this estimate among the operands of a disjunction, which are best evaluated in ascending
+     * order of rank: cheap operands that match many persons come first.
+     */
+    public double getDisjunctionRank() {
+        return selectivity <= 0 ? Double.POSITIVE_INFINITY : cost / selectivity;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof CostEstimate)) {
+            return false;
+        }
+
+        CostEstimate otherEstimate = (CostEstimate) other;
+        return Double.compare(selectivity, otherEstimate.selectivity) == 0
+                && Double.compare(cost, otherEstimate.cost) == 0;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(selectivity, cost);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("selectivity", String.format("%.4f", selectivity))
+                .add("cost", String.format("%.0f", cost))
+                .toString();
+    }
+}
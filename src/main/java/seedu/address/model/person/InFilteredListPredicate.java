@@ -1,23 +1,63 @@
 package seedu.address.model.person;
 
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 
+import seedu.address.commons.util.CompressedBitmap;
 import seedu.address.commons.util.ToStringBuilder;
 
 /**
  * Tests that a {@code Person} is contained in the current filtered list.
+ * The list is copied when the predicate is created, so later changes to the filtered list do not affect it,
+ * and its persons are held in a hash set so that each test takes constant time.
+ * If given the {@code PersonIndex} of the persons, a person edited since is also still contained in the list,
+ * as it is recognised through the index rather than by its fields.
  */
 public class InFilteredListPredicate implements Predicate<Person> {
     private final List<Person> currentFilteredList;
+    private final Set<Person> currentFilteredPersons;
+    private final PersonIndex personIndex;
+    private final CompressedBitmap currentFilteredOrdinals;
+    private final long additionCount;
 
+    /**
+     * Creates a predicate matching the persons now in {@code currentFilteredList}.
+     */
     public InFilteredListPredicate(List<Person> currentFilteredList) {
-        this.currentFilteredList = currentFilteredList;
+        this.currentFilteredList = new ArrayList<>(currentFilteredList);
+        this.currentFilteredPersons = new HashSet<>(currentFilteredList);
+        this.personIndex = null;
+        this.currentFilteredOrdinals = null;
+        this.additionCount = 0;
+    }
+
+    /**
+     * Creates a predicate matching the persons now in {@code currentFilteredList}, and those persons after
+     * any edits to them, as tracked by {@code personIndex}.
+     */
+    public InFilteredListPredicate(List<Person> currentFilteredList, PersonIndex personIndex) {
+        requireNonNull(personIndex);
+        this.currentFilteredList = new ArrayList<>(currentFilteredList);
+        this.currentFilteredPersons = new HashSet<>(currentFilteredList);
+        this.personIndex = personIndex;
+        this.currentFilteredOrdinals = personIndex.getOrdinals(currentFilteredList);
+        this.additionCount = personIndex.getAdditionCount();
     }
 
     @Override
     public boolean test(Person person) {
-        return currentFilteredList.contains(person);
+        if (currentFilteredPersons.contains(person)) {
+            return true;
+        }
+        // an ordinal freed by a removal may have been reused for a person added since
+        return personIndex != null
+                && currentFilteredOrdinals.contains(personIndex.getOrdinal(person))
+                && personIndex.wasAddedBefore(person, additionCount);
     }
 
     @Override
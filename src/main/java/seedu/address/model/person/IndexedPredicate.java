@@ -0,0 +1,66 @@
+package seedu.address.model.person;
+
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.util.CompressedBitmap;
+
+/**
+ * A predicate on persons whose matching persons can be looked up through a {@code PersonIndex},
+ * instead of testing every person.
+ */
+public interface IndexedPredicate extends Predicate<Person> {
+
+    /**
+     * Returns the ordinals in {@code personIndex} of the indexed persons that satisfy this predicate.
+     */
+    CompressedBitmap getMatchingOrdinals(PersonIndex personIndex);
+
+    /**
+     * Returns an estimate, from the current contents of {@code personIndex}, of the fraction of indexed persons
+     * that satisfy this predicate and of the cost of looking them up.
+     */
+    CostEstimate estimate(PersonIndex personIndex);
+
+    /**
+     * Returns a key identifying the persons this predicate matches, for caching them.
+     * Predicates with equal keys match the same persons, such as predicates given the same keywords in a different
+     * order or case.
+     */
+    String getCacheKey();
+
+    /**
+     * Returns the ordinals among {@code candidates} of the persons in {@code personIndex} that satisfy this predicate.
+     * The candidates are tested one at a time if there are few enough of them to make that cheaper than a lookup.
+     */
+    default CompressedBitmap getMatchingOrdinals(PersonIndex personIndex, CompressedBitmap candidates) {
+        if (estimate(personIndex).isTestingCheaper(candidates.getCardinality())) {
+            return personIndex.getOrdinalsMatching(candidates, this);
+        }
+        return getMatchingOrdinals(personIndex).and(candidates);
+    }
+
+    /**
+     * Returns the cache key of a predicate matching persons by any of {@code normalizedKeywords} in {@code field}.
+     * The keywords are quoted, so that different lists of keywords have different keys.
+     */
+    static String toCacheKey(String field, List<String> normalizedKeywords) {
+        return normalizedKeywords.stream()
+                .map(keyword -> '"' + keyword.replace("\\", "\\\\").replace("\"", "\\\"") + '"')
+                .collect(Collectors.joining(",", field + "[", "]"));
+    }
+
+    /**
+     * Returns the cache key of combining {@code predicates} with {@code operator}, which is the same whatever order
+     * the predicates are given in, and is the key of the predicate itself if there is only one.
+     */
+    static String combineCacheKeys(String operator, List<? extends IndexedPredicate> predicates) {
+        List<String> cacheKeys = predicates.stream()
+                .map(IndexedPredicate::getCacheKey)
+                .distinct()
+                .sorted()
+                .collect(Collectors.toList());
+        return cacheKeys.size() == 1 ? cacheKeys.get(0) : operator + "(" + String.join(",", cacheKeys) + ")";
+    }
+}
@@ -3,6 +3,8 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.WeakInterner;
+
 /**
  * Represents a module code of a NUS module in the address book.
  * Guarantees: immutable
@@ -21,6 +23,9 @@ public class ModuleCode implements Comparable<ModuleCode> {
      */
     public static final String VALIDATION_REGEX = "[A-Za-z]+[0-9]+[A-Za-z]*";
 
+    private static final WeakInterner<ModuleCode> INTERNER =
+            new WeakInterner<>(ModuleCode::new, code -> code.moduleCode);
+
     public final String moduleCode;
 
     /**
@@ -34,6 +39,17 @@ public class ModuleCode implements Comparable<ModuleCode> {
         this.moduleCode = moduleCode.trim().toUpperCase();
     }
 
+    /**
+     * Returns the canonical {@code ModuleCode} for {@code moduleCode}, so that equal module codes share one instance.
+     * Prefer this to the constructor for module codes that are kept in the address book.
+     *
+     * @param moduleCode A module code.
+     */
+    public static ModuleCode of(String moduleCode) {
+        requireNonNull(moduleCode);
+        return INTERNER.intern(moduleCode.trim().toUpperCase());
+    }
+
     /**
      * Returns true if a given string is a valid module code.
      */
@@ -3,15 +3,15 @@ package seedu.address.model.person;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
-import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
+import seedu.address.commons.util.CompressedBitmap;
 import seedu.address.commons.util.ToStringBuilder;
 
 /**
  * Tests that a {@code Person}'s {@code ModuleRoleMap} matches any of the keywords given.
  */
-public class ModuleRoleContainsKeywordsPredicate implements Predicate<Person> {
+public class ModuleRoleContainsKeywordsPredicate implements IndexedPredicate {
     private final Set<ModuleRolePair> moduleRoleKeywords;
 
 
@@ -34,6 +34,28 @@ public class ModuleRoleContainsKeywordsPredicate implements Predicate<Person> {
         return moduleRoleKeywords.stream().anyMatch(personModuleRoleMap::containsModuleRolePair);
     }
 
+    @Override
+    public CompressedBitmap getMatchingOrdinals(PersonIndex personIndex) {
+        CompressedBitmap matchingOrdinals = new CompressedBitmap();
+        for (ModuleRolePair moduleRolePair : moduleRoleKeywords) {
+            matchingOrdinals = matchingOrdinals.or(personIndex.getPersonsWithModuleRole(moduleRolePair));
+        }
+        return matchingOrdinals;
+    }
+
+    @Override
+    public CostEstimate estimate(PersonIndex personIndex) {
+        return personIndex.estimateModuleRoleLookup(moduleRoleKeywords);
+    }
+
+    @Override
+    public String getCacheKey() {
+        return IndexedPredicate.toCacheKey("module", moduleRoleKeywords.stream()
+                .map(ModuleRolePair::toString)
+                .sorted()
+                .collect(Collectors.toList()));
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -6,16 +6,23 @@ import static seedu.address.commons.util.CollectionUtil.areOfSameSize;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 /**
  * Represents the mapping between module and role type in the roles
  * taken by a Person in NUS.
+ * Guarantees: immutable. Edits return a new {@code ModuleRoleMap}, so a map can be shared between persons
+ * and between states of the address book.
+ *
+ * The roles are stored compactly as an array of interned module codes and a parallel array of role type
+ * ordinals, in input order. A person holds only a few roles, so lookups scan the arrays.
  */
 public class ModuleRoleMap {
     /* Constraints message for role type. */
@@ -39,10 +46,14 @@ public class ModuleRoleMap {
      */
     public static final String VALIDATION_REGEX = "^$|student|tutor|ta|professor|prof";
 
+    private static final RoleType[] ROLE_TYPES = RoleType.values();
+    private static final ModuleRoleMap EMPTY = new ModuleRoleMap(new ModuleCode[0], new byte[0]);
+
     /**
      * The roles will follow the order of the input.
      */
-    private final LinkedHashMap<ModuleCode, RoleType> roles;
+    private final ModuleCode[] moduleCodes;
+    private final byte[] roleOrdinals;
 
     /**
      * Default constructor for a {@code ModuleRoleMap}.
@@ -59,11 +70,14 @@ public class ModuleRoleMap {
 
         checkArgument(areOfSameSize(moduleCodes, roleTypes), MESSAGE_INPUT_SIZE_CONSTRAINTS);
 
-        LinkedHashMap<ModuleCode, RoleType> newRoles = new LinkedHashMap<>();
+        ModuleCode[] newModuleCodes = new ModuleCode[moduleCodes.length];
+        byte[] newRoleOrdinals = new byte[moduleCodes.length];
+        int size = 0;
         for (int i = 0; i < moduleCodes.length; i++) {
-            newRoles.put(moduleCodes[i], roleTypes[i]);
+            size = put(newModuleCodes, newRoleOrdinals, size, moduleCodes[i], roleTypes[i]);
         }
-        this.roles = newRoles;
+        this.moduleCodes = Arrays.copyOf(newModuleCodes, size);
+        this.roleOrdinals = Arrays.copyOf(newRoleOrdinals, size);
     }
 
     /**
@@ -75,7 +89,59 @@ public class ModuleRoleMap {
      */
     public ModuleRoleMap(Map<ModuleCode, RoleType> roles) {
         requireAllNonNull(roles);
-        this.roles = new LinkedHashMap<>(roles);
+        this.moduleCodes = new ModuleCode[roles.size()];
+        this.roleOrdinals = new byte[roles.size()];
+        int i = 0;
+        for (Map.Entry<ModuleCode, RoleType> role : roles.entrySet()) {
+            moduleCodes[i] = ModuleCode.of(role.getKey().moduleCode);
+            roleOrdinals[i] = (byte) requireNonNull(role.getValue()).ordinal();
+            i++;
+        }
+    }
+
+    private ModuleRoleMap(ModuleCode[] moduleCodes, byte[] roleOrdinals) {
+        this.moduleCodes = moduleCodes;
+        this.roleOrdinals = roleOrdinals;
+    }
+
+    /**
+     * Returns a {@code ModuleRoleMap} with no roles.
+     */
+    public static ModuleRoleMap empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Sets the role of {@code moduleCode} in the first {@code size} entries of the arrays,
+     * appending it if the module is not present. Returns the new number of entries.
+     */
+    private static int put(ModuleCode[] moduleCodes, byte[] roleOrdinals, int size,
+                           ModuleCode moduleCode, RoleType roleType) {
+        int index = indexOf(moduleCodes, size, moduleCode);
+        if (index == -1) {
+            index = size++;
+            moduleCodes[index] = ModuleCode.of(moduleCode.moduleCode);
+        }
+        roleOrdinals[index] = (byte) roleType.ordinal();
+        return size;
+    }
+
+    private static int indexOf(ModuleCode[] moduleCodes, int size, ModuleCode moduleCode) {
+        for (int i = 0; i < size; i++) {
+            // interned module codes are usually the same instance
+            if (moduleCodes[i] == moduleCode || moduleCodes[i].equals(moduleCode)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private int indexOf(ModuleCode moduleCode) {
+        return indexOf(moduleCodes, moduleCodes.length, moduleCode);
+    }
+
+    private RoleType getRoleType(int index) {
+        return ROLE_TYPES[roleOrdinals[index]];
     }
 
     /**
@@ -87,9 +153,10 @@ public class ModuleRoleMap {
      */
     public Stream<ModuleCode> getFilteredModuleCodes(RoleType roleType) {
         requireNonNull(roleType);
-        return this.roles.entrySet().stream()
-                .filter(entry -> entry.getValue().equals(roleType))
-                .map(Map.Entry::getKey);
+        byte ordinal = (byte) roleType.ordinal();
+        return IntStream.range(0, moduleCodes.length)
+                .filter(i -> roleOrdinals[i] == ordinal)
+                .mapToObj(i -> moduleCodes[i]);
     }
 
     /**
@@ -135,7 +202,7 @@ public class ModuleRoleMap {
 
     @Override
     public String toString() {
-        if (this.roles.isEmpty()) {
+        if (isEmpty()) {
             return "This contact does not have a specified role";
         }
         StringBuilder rolesDescription = new StringBuilder();
@@ -151,6 +218,9 @@ public class ModuleRoleMap {
         return rolesDescription.toString();
     }
 
+    /**
+     * Returns true if both maps hold the same roles, in any order.
+     */
     @Override
     public boolean equals(Object other) {
         if (this == other) {
@@ -160,20 +230,36 @@ public class ModuleRoleMap {
             return false;
         }
         ModuleRoleMap otherModuleRoleMap = (ModuleRoleMap) other;
-        return this.roles.equals(otherModuleRoleMap.roles);
+        if (moduleCodes.length != otherModuleRoleMap.moduleCodes.length) {
+            return false;
+        }
+        for (int i = 0; i < moduleCodes.length; i++) {
+            if (!otherModuleRoleMap.containsModuleRolePair(moduleCodes[i], getRoleType(i))) {
+                return false;
+            }
+        }
+        return true;
     }
 
     @Override
     public int hashCode() {
-        return this.roles.hashCode();
+        // independent of order, like Map#hashCode
+        int hashCode = 0;
+        for (int i = 0; i < moduleCodes.length; i++) {
+            hashCode += moduleCodes[i].hashCode() ^ roleOrdinals[i];
+        }
+        return hashCode;
     }
 
     /**
-     * Gets the roles in HashMap.
-     *
+     * Returns a new map of the roles, in input order.
      */
     public LinkedHashMap<ModuleCode, RoleType> getRoles() {
-        return this.roles;
+        LinkedHashMap<ModuleCode, RoleType> roles = new LinkedHashMap<>();
+        for (int i = 0; i < moduleCodes.length; i++) {
+            roles.put(moduleCodes[i], getRoleType(i));
+        }
+        return roles;
     }
 
     /**
@@ -190,137 +276,90 @@ public class ModuleRoleMap {
      *               false to retain the original input order.
      */
     public List<ModuleRolePair> getData(boolean sorted) {
+        List<ModuleRolePair> data = new ArrayList<>(moduleCodes.length);
+        for (int i = 0; i < moduleCodes.length; i++) {
+            data.add(new ModuleRolePair(moduleCodes[i], getRoleType(i)));
+        }
         if (sorted) {
-            return roles.entrySet().stream()
-                    .map(entry -> new ModuleRolePair(entry.getKey(), entry.getValue()))
-                    .sorted()
-                    .collect(Collectors.toList());
-        } else {
-            return roles.entrySet().stream()
-                    .map(entry -> new ModuleRolePair(entry.getKey(), entry.getValue()))
-                    .collect(Collectors.toList());
+            Collections.sort(data);
         }
+        return data;
     }
 
     /**
      * Returns true if the module role map is empty.
      */
     public boolean isEmpty() {
-        return this.roles.isEmpty();
+        return moduleCodes.length == 0;
     }
 
     /**
-     * Adds all module role pairs from {@code moduleRolePairsToAdd} to {@code this}.
-     * This is equivalent to a set union operation.
-     * @param moduleRolePairsToAdd The module role pairs to add.
-     * @return A {@code ModuleRoleMap} containing all pairs failed to add.
-     *         (i.e. the moduleRolePairsToAdd U this)
+     * Returns the number of roles in the module role map.
      */
-    public ModuleRoleMap putAll(List<ModuleRolePair> moduleRolePairsToAdd) {
-        requireNonNull(moduleRolePairsToAdd);
-        assert !moduleRolePairsToAdd.isEmpty() : "Module roles to add cannot be empty!";
-        Map<ModuleCode, RoleType> failedModuleRoleMap = new HashMap<>();
-
-        for (ModuleRolePair moduleRolePair : moduleRolePairsToAdd) {
-            if (!this.put(moduleRolePair.moduleCode, moduleRolePair.roleType)) {
-                failedModuleRoleMap.put(moduleRolePair.moduleCode, moduleRolePair.roleType);
-            }
-        }
-        return new ModuleRoleMap(failedModuleRoleMap);
+    public int size() {
+        return moduleCodes.length;
     }
 
     /**
-     * Removes all module role pairs from {@code moduleRolePairsToRemove} from {@code this}.
-     * This is equivalent to a set difference operation.
-     * @param moduleRolePairsToRemove The module role pairs to remove.
-     * @return A {@code ModuleRoleMap} containing all pairs failed to remove.
-     *         (i.e. moduleRolePairsToRemove \ this)
-     */
-    public List<ModuleRolePair> removeAll(List<ModuleRolePair> moduleRolePairsToRemove) {
-        requireNonNull(moduleRolePairsToRemove);
-        List<ModuleRolePair> failedModuleRolePairs = new ArrayList<>();
-
-        for (ModuleRolePair moduleRolePair : moduleRolePairsToRemove) {
-            if (!this.remove(moduleRolePair.moduleCode, moduleRolePair.roleType)) {
-                failedModuleRolePairs.add(moduleRolePair);
-            }
-        }
-        return failedModuleRolePairs;
-    }
-
-    /**
-     * Removes all module role pairs from {@code this}. This method checks module codes only and ignores role types.
-     * This is equivalent to a set difference operation.
-     * @param moduleCodesToRemove The module codes to remove.
-     * @return A {@code ModuleRoleMap} containing all pairs failed to remove.
-     */
-    public List<ModuleCode> removeAllIgnoringRoles(List<ModuleCode> moduleCodesToRemove) {
-        requireNonNull(moduleCodesToRemove);
-
-        List<ModuleCode> failedModuleCodes = new ArrayList<>();
-
-        for (ModuleCode moduleCode : moduleCodesToRemove) {
-            if (!this.removeIgnoringRole(moduleCode)) {
-                failedModuleCodes.add(moduleCode);
-            }
-        }
-        return failedModuleCodes;
-    }
-
-    /**
-     * Adds a module role pair to the module role map.
+     * Returns a copy of the module role map with {@code moduleCode} assigned to {@code role}.
+     * The role replaces any existing role of the module, keeping its position; otherwise the pair is appended.
      * @param moduleCode The module code to add.
      * @param role The role to add.
-     * @return True if the module role pair is added successfully.
+     * @return A new module role map with the module role pair.
      */
-    public boolean put(ModuleCode moduleCode, RoleType role) {
-        if (this.roles.containsKey(moduleCode)) {
-            return false;
-        }
-
-        this.roles.put(moduleCode, role);
-        return true;
+    public ModuleRoleMap put(ModuleCode moduleCode, RoleType role) {
+        requireAllNonNull(moduleCode, role);
+        ModuleCode[] newModuleCodes = Arrays.copyOf(moduleCodes, moduleCodes.length + 1);
+        byte[] newRoleOrdinals = Arrays.copyOf(roleOrdinals, roleOrdinals.length + 1);
+        int size = put(newModuleCodes, newRoleOrdinals, moduleCodes.length, moduleCode, role);
+        return new ModuleRoleMap(Arrays.copyOf(newModuleCodes, size), Arrays.copyOf(newRoleOrdinals, size));
     }
 
     /**
-     * Adds a module role pair to the module role map.
+     * Returns a copy of the module role map with {@code moduleRolePair} added.
      * @param moduleRolePair The module role pair to add.
-     * @return True if the module role pair is added successfully.
+     * @return A new module role map with the module role pair.
      */
-    public boolean put(ModuleRolePair moduleRolePair) {
+    public ModuleRoleMap put(ModuleRolePair moduleRolePair) {
         return put(moduleRolePair.moduleCode, moduleRolePair.roleType);
     }
 
     /**
-     * Removes a module role pair from the module role map.
+     * Returns a copy of the module role map without the given module role pair.
      * @param moduleCode The module code to remove.
      * @param role The role to remove.
-     * @return True if the module role pair is removed successfully.
+     * @return A new module role map without the pair, or this map if it does not contain the pair.
      */
-    public boolean remove(ModuleCode moduleCode, RoleType role) {
-        return roles.remove(moduleCode, role);
+    public ModuleRoleMap remove(ModuleCode moduleCode, RoleType role) {
+        return containsModuleRolePair(moduleCode, role) ? removeIgnoringRole(moduleCode) : this;
     }
 
     /**
-     * Removes a module role pair from the module role map.
+     * Returns a copy of the module role map without the given module role pair.
      * @param moduleRolePair The module role pair to remove.
-     * @return True if the module role pair is removed successfully.
+     * @return A new module role map without the pair, or this map if it does not contain the pair.
      */
-    public boolean remove(ModuleRolePair moduleRolePair) {
+    public ModuleRoleMap remove(ModuleRolePair moduleRolePair) {
         return remove(moduleRolePair.moduleCode, moduleRolePair.roleType);
     }
 
     /**
-     * Removes a module role pair from the module role map. This method checks module codes only and ignores role types.
+     * Returns a copy of the module role map without the given module, whatever its role.
      * @param moduleCode The module code to remove.
-     * @return True if the module role pair is removed successfully.
+     * @return A new module role map without the module, or this map if it does not contain the module.
      */
-    public boolean removeIgnoringRole(ModuleCode moduleCode) {
-        if (this.containsModule(moduleCode)) {
-            this.roles.remove(moduleCode);
-            return true;
+    public ModuleRoleMap removeIgnoringRole(ModuleCode moduleCode) {
+        int index = indexOf(moduleCode);
+        if (index == -1) {
+            return this;
         }
-        return false;
+        ModuleCode[] newModuleCodes = new ModuleCode[moduleCodes.length - 1];
+        byte[] newRoleOrdinals = new byte[roleOrdinals.length - 1];
+        System.arraycopy(moduleCodes, 0, newModuleCodes, 0, index);
+        System.arraycopy(moduleCodes, index + 1, newModuleCodes, index, newModuleCodes.length - index);
+        System.arraycopy(roleOrdinals, 0, newRoleOrdinals, 0, index);
+        System.arraycopy(roleOrdinals, index + 1, newRoleOrdinals, index, newRoleOrdinals.length - index);
+        return new ModuleRoleMap(newModuleCodes, newRoleOrdinals);
     }
 
     /**
@@ -329,7 +368,7 @@ public class ModuleRoleMap {
      * @return True if the module role map contains the specified module code.
      */
     public boolean containsModule(ModuleCode moduleCode) {
-        return roles.containsKey(moduleCode);
+        return indexOf(moduleCode) != -1;
     }
 
     /**
@@ -339,7 +378,8 @@ public class ModuleRoleMap {
      * @return True if the module role map contains the specified module role.
      */
     public boolean containsModuleRolePair(ModuleCode moduleCode, RoleType role) {
-        return roles.containsKey(moduleCode) && roles.get(moduleCode).equals(role);
+        int index = indexOf(moduleCode);
+        return index != -1 && getRoleType(index).equals(role);
     }
 
     /**
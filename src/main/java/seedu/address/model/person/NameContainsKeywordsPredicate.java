@@ -2,25 +2,59 @@ package seedu.address.model.person;
 
 import java.util.Collections;
 import java.util.List;
-import java.util.function.Predicate;
 
-import seedu.address.commons.util.StringUtil;
+import seedu.address.commons.util.CompressedBitmap;
+import seedu.address.commons.util.KeywordMatcher;
+import seedu.address.commons.util.MultiKeywordMatcher;
 import seedu.address.commons.util.ToStringBuilder;
 
 /**
  * Tests that a {@code Person}'s {@code Name} matches any of the keywords given.
  */
-public class NameContainsKeywordsPredicate implements Predicate<Person> {
+public class NameContainsKeywordsPredicate implements IndexedPredicate {
     private final List<String> keywords;
+    private final MultiKeywordMatcher matcher;
+    // Each keyword on its own, for looking up the persons with names containing it
+    private final KeywordMatcher[] keywordMatchers;
 
+    /**
+     * Every keyword must be non-empty.
+     */
     public NameContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
+        this.matcher = new MultiKeywordMatcher(keywords);
+        this.keywordMatchers = keywords.stream().map(KeywordMatcher::new).toArray(KeywordMatcher[]::new);
     }
 
     @Override
     public boolean test(Person person) {
-        return keywords.stream()
-                .anyMatch(keyword -> StringUtil.containsSubstringIgnoreCase(person.getName().fullName, keyword));
+        return matcher.isAnyFoundIn(person.getName().fullName);
+    }
+
+    @Override
+    public CompressedBitmap getMatchingOrdinals(PersonIndex personIndex) {
+        CompressedBitmap matchingOrdinals = new CompressedBitmap();
+        for (KeywordMatcher keywordMatcher : keywordMatchers) {
+            matchingOrdinals = matchingOrdinals.or(personIndex.getPersonsWithNameContaining(keywordMatcher));
+        }
+        return matchingOrdinals;
+    }
+
+    @Override
+    public CostEstimate estimate(PersonIndex personIndex) {
+        double matchCount = 0;
+        double cost = 0;
+        for (KeywordMatcher keywordMatcher : keywordMatchers) {
+            CostEstimate keywordEstimate = personIndex.estimateNameLookup(keywordMatcher);
+            matchCount += keywordEstimate.getSelectivity() * personIndex.size();
+            cost += keywordEstimate.getCost();
+        }
+        return CostEstimate.of(matchCount, personIndex.size(), cost);
+    }
+
+    @Override
+    public String getCacheKey() {
+        return IndexedPredicate.toCacheKey("name", matcher.getNormalizedKeywords());
     }
 
     @Override
@@ -2,8 +2,10 @@ package seedu.address.model.person;
 
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.Collections;
-import java.util.HashSet;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
@@ -14,19 +16,29 @@ import seedu.address.model.tag.Tag;
 /**
  * Represents a Person in the address book.
  * Guarantees: details are present and not null, field values are validated, immutable.
+ *
+ * Absent optional fields are stored as nulls and the tags as a small array sorted by name,
+ * so a person takes little memory. The hash code is computed once and cached.
  */
 public class Person {
 
+    private static final Tag[] NO_TAGS = new Tag[0];
+    private static final Set<Tag> NO_TAG_SET = new TagSet(NO_TAGS);
+    private static final Comparator<Tag> TAG_ORDER = Comparator.comparing(tag -> tag.tagName);
+
     // Identity fields
     private final Name name;
-    private final Optional<Phone> phone;
-    private final Optional<Email> email;
+    private final Phone phone;
+    private final Email email;
 
     // Data fields
-    private final Optional<Address> address;
-    private final Set<Tag> tags = new HashSet<>();
+    private final Address address;
+    private final Tag[] tags;
     private final ModuleRoleMap moduleRoleMap;
-    private final Optional<Description> description;
+    private final Description description;
+
+    // Cached hash code, or 0 if not yet computed
+    private int hashCode;
 
     /**
      * Every field must be present and not null.
@@ -35,12 +47,21 @@ public class Person {
                   ModuleRoleMap moduleRoleMap, Optional<Description> description) {
         requireAllNonNull(name, phone, email, tags, moduleRoleMap, description);
         this.name = name;
-        this.phone = phone;
-        this.email = email;
-        this.address = address;
-        this.tags.addAll(tags);
+        this.phone = phone.orElse(null);
+        this.email = email.orElse(null);
+        this.address = address == null ? null : address.orElse(null);
+        this.tags = toSortedArray(tags);
         this.moduleRoleMap = moduleRoleMap;
-        this.description = description;
+        this.description = description.orElse(null);
+    }
+
+    private static Tag[] toSortedArray(Set<Tag> tags) {
+        if (tags.isEmpty()) {
+            return NO_TAGS;
+        }
+        Tag[] array = tags.toArray(NO_TAGS);
+        Arrays.sort(array, TAG_ORDER);
+        return array;
     }
 
     public Name getName() {
@@ -48,15 +69,15 @@ public class Person {
     }
 
     public Optional<Phone> getPhone() {
-        return phone;
+        return Optional.ofNullable(phone);
     }
 
     public Optional<Email> getEmail() {
-        return email;
+        return Optional.ofNullable(email);
     }
 
     public Optional<Address> getAddress() {
-        return address;
+        return Optional.ofNullable(address);
     }
 
     public ModuleRoleMap getModuleRoleMap() {
@@ -64,15 +85,29 @@ public class Person {
     }
 
     public Optional<Description> getDescription() {
-        return description;
+        return Optional.ofNullable(description);
     }
 
     /**
      * Returns an immutable tag set, which throws {@code UnsupportedOperationException}
-     * if modification is attempted.
+     * if modification is attempted. The tags are iterated in order of their names.
      */
     public Set<Tag> getTags() {
-        return Collections.unmodifiableSet(tags);
+        return tags.length == 0 ? NO_TAG_SET : new TagSet(tags);
+    }
+
+    /**
+     * Returns the number of tags, so that they can be read by index without allocating a view.
+     */
+    int getTagCount() {
+        return tags.length;
+    }
+
+    /**
+     * Returns the tag at {@code index} in order of tag names.
+     */
+    Tag getTag(int index) {
+        return tags[index];
     }
 
     /**
@@ -88,10 +123,7 @@ public class Person {
             return false;
         }
 
-        boolean isEmailPresentAndSame = hasEmail() && otherPerson.getEmail().equals(getEmail());
-        boolean isPhonePresentAndSame = hasPhone() && otherPerson.getPhone().equals(getPhone());
-
-        return isEmailPresentAndSame || isPhonePresentAndSame;
+        return isEmailPresentAndSame(otherPerson) || isPhonePresentAndSame(otherPerson);
     }
 
     /**
@@ -102,7 +134,7 @@ public class Person {
             return false;
         }
 
-        return hasPhone() && otherPerson.getPhone().equals(getPhone());
+        return hasPhone() && phone.equals(otherPerson.phone);
     }
 
     /**
@@ -113,7 +145,7 @@ public class Person {
             return false;
         }
 
-        return hasEmail() && otherPerson.getEmail().equals(getEmail());
+        return hasEmail() && email.equals(otherPerson.email);
     }
 
     /**
@@ -132,19 +164,27 @@ public class Person {
         }
 
         Person otherPerson = (Person) other;
+        if (hashCode != 0 && otherPerson.hashCode != 0 && hashCode != otherPerson.hashCode) {
+            return false;
+        }
         return name.equals(otherPerson.name)
-                && phone.equals(otherPerson.phone)
-                && email.equals(otherPerson.email)
-                && address.equals(otherPerson.address)
-                && tags.equals(otherPerson.tags)
+                && Objects.equals(phone, otherPerson.phone)
+                && Objects.equals(email, otherPerson.email)
+                && Objects.equals(address, otherPerson.address)
+                && Arrays.equals(tags, otherPerson.tags)
                 && moduleRoleMap.equals(otherPerson.moduleRoleMap)
-                && description.equals(otherPerson.description);
+                && Objects.equals(description, otherPerson.description);
     }
 
     @Override
     public int hashCode() {
-        // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(name, phone, email, address, tags, moduleRoleMap, description);
+        int result = hashCode;
+        if (result == 0) {
+            // use this method for custom fields hashing instead of implementing your own
+            result = Objects.hash(name, phone, email, address, Arrays.hashCode(tags), moduleRoleMap, description);
+            hashCode = result;
+        }
+        return result;
     }
 
     @Override
@@ -152,12 +192,12 @@ public class Person {
         ToStringBuilder builder = new ToStringBuilder(this)
                 .add("name", name);
 
-        phone.ifPresent(phone -> builder.add("phone", phone));
-        email.ifPresent(email -> builder.add("email", email));
-        address.ifPresent(addr -> builder.add("address", addr));
-        builder.add("tags", tags)
+        getPhone().ifPresent(phone -> builder.add("phone", phone));
+        getEmail().ifPresent(email -> builder.add("email", email));
+        getAddress().ifPresent(addr -> builder.add("address", addr));
+        builder.add("tags", getTags())
                 .add("roles", moduleRoleMap);
-        description.filter(value -> !value.isBlank())
+        getDescription().filter(value -> !value.isBlank())
             .ifPresent(description -> builder.add("description", description));
 
         return builder.toString();
@@ -167,44 +207,76 @@ public class Person {
      * Returns true if this person has a non-null phone.
      */
     public boolean hasPhone() {
-        return this.phone.isPresent();
+        return this.phone != null;
     }
 
     /**
      * Returns true if this person has a non-null email.
      */
     public boolean hasEmail() {
-        return this.email.isPresent();
+        return this.email != null;
     }
 
     /**
      * Returns true if this person has a non-null address.
      */
     public boolean hasAddress() {
-        return this.address.isPresent();
+        return this.address != null;
     }
 
     /**
      * Returns true if this person has an empty {@code ModuleRoleMap}.
      */
     public boolean hasEmptyModuleRoleMap() {
-        return this.moduleRoleMap.getRoles().isEmpty();
+        return this.moduleRoleMap.isEmpty();
     }
 
     /**
      * Returns true if this person has a non-null description.
      */
     public boolean hasNonEmptyDescription() {
-        return description.filter(value -> !value.isBlank()).isPresent();
+        return description != null && !description.isBlank();
     }
 
     /**
      * Returns the description of the person as a string. If the description is blank, returns a default string.
      */
     public String getDescriptionString() {
-        return description
+        return getDescription()
                 .filter(value -> !value.isBlank())
                 .map(Objects::toString)
                 .orElse("<no description>");
     }
+
+    /**
+     * An unmodifiable view of a sorted array of tags as a {@code Set}.
+     * Its iterator does not support removal, so every mutator throws {@code UnsupportedOperationException}.
+     */
+    private static class TagSet extends AbstractSet<Tag> {
+        private final Tag[] tags;
+
+        TagSet(Tag[] tags) {
+            this.tags = tags;
+        }
+
+        @Override
+        public Iterator<Tag> iterator() {
+            return Arrays.asList(tags).iterator();
+        }
+
+        @Override
+        public int size() {
+            return tags.length;
+        }
+
+        @Override
+        public boolean contains(Object object) {
+            for (Tag tag : tags) {
+                if (tag.equals(object)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
 }
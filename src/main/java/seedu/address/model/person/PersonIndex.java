@@ -0,0 +1,409 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.CompressedBitmap;
+import seedu.address.commons.util.KeywordMatcher;
+import seedu.address.commons.util.MultiKeywordMatcher;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Inverted indexes from the module codes, module-role pairs and tags held by persons to the persons holding them,
+ * and from the trigrams (three-character substrings) of their case-folded names to the persons with those names,
+ * so that the persons with a given module, role, tag or part of a name are found without testing every person.
+ * Each indexed person is given a small ordinal, kept until the person is removed and then reused for the next person
+ * added, and sets of persons are held and returned as {@code CompressedBitmap}s of their ordinals.
+ * Persons are held by identity, and the indexes are kept up to date by the {@code UniquePersonList} owning them.
+ * The index also owns a {@code QueryResultCache} of recent find results, which it keeps up to date in turn.
+ */
+public class PersonIndex {
+
+    public static final String MESSAGE_NO_SUCH_ORDINAL = "No indexed person has this ordinal";
+
+    private static final int TRIGRAM_LENGTH = 3;
+
+    private final Map<Person, Integer> ordinals = new IdentityHashMap<>();
+    // Indexed by ordinal, with null at ordinals that are free
+    private final List<Person> personsByOrdinal = new ArrayList<>();
+    private final Deque<Integer> freeOrdinals = new ArrayDeque<>();
+    private final CompressedBitmap allOrdinals = new CompressedBitmap();
+    // Indexed by ordinal, the number of persons added before the person with that ordinal
+    private final List<Long> additionNumbersByOrdinal = new ArrayList<>();
+    // Never reset, so that persons added after a clear are told apart from those indexed before it
+    private long additionCount;
+
+    private final Map<ModuleCode, CompressedBitmap> personsByModule = new HashMap<>();
+    private final Map<ModuleRolePair, CompressedBitmap> personsByModuleRole = new HashMap<>();
+    // Keyed by case-folded tag name, so tags differing only in case share an entry
+    private final Map<String, CompressedBitmap> personsByTag = new HashMap<>();
+    // Keyed by trigrams of case-folded names, with names too short to have a trigram keyed by the whole name
+    private final Map<String, CompressedBitmap> personsByNameTrigram = new HashMap<>();
+    // Total number of persons over all entries of personsByTag
+    private int tagOccurrenceCount;
+
+    private final QueryResultCache queryResultCache = new QueryResultCache(QueryResultCache.DEFAULT_CAPACITY);
+
+    /**
+     * Returns the ordinal of {@code person}, or -1 if it is not indexed.
+     */
+    public int getOrdinal(Person person) {
+        requireNonNull(person);
+        Integer ordinal = ordinals.get(person);
+        return ordinal == null ? -1 : ordinal;
+    }
+
+    /**
+     * Returns the indexed person with {@code ordinal}.
+     *
+     * @throws IllegalArgumentException if no person has that ordinal.
+     */
+    public Person getPerson(int ordinal) {
+        Person person = ordinal >= 0 && ordinal < personsByOrdinal.size() ? personsByOrdinal.get(ordinal) : null;
+        checkArgument(person != null, MESSAGE_NO_SUCH_ORDINAL);
+        return person;
+    }
+
+    /**
+     * Returns the ordinals of all indexed persons.
+     */
+    public CompressedBitmap getAllOrdinals() {
+        return allOrdinals.copy();
+    }
+
+    /**
+     * Returns the number of indexed persons.
+     */
+    public int size() {
+        return ordinals.size();
+    }
+
+    /**
+     * Returns the cache of the persons found by recent find queries, which is kept up to date with this index.
+     */
+    public QueryResultCache getQueryResultCache() {
+        return queryResultCache;
+    }
+
+    /**
+     * Returns the ordinals of the indexed persons among {@code persons}. Persons not indexed are left out.
+     */
+    public CompressedBitmap getOrdinals(Iterable<Person> persons) {
+        requireNonNull(persons);
+        CompressedBitmap bitmap = new CompressedBitmap();
+        for (Person person : persons) {
+            Integer ordinal = ordinals.get(person);
+            if (ordinal != null) {
+                bitmap.add(ordinal);
+            }
+        }
+        return bitmap;
+    }
+
+    /**
+     * Returns the number of persons added to this index so far. A person replaced through
+     * {@link #replace(Person, Person)} is not counted again.
+     */
+    public long getAdditionCount() {
+        return additionCount;
+    }
+
+    /**
+     * Returns true if {@code person} is indexed and was added, or replaced a person that was added, before
+     * {@code additionCount} persons had been added. Unlike its ordinal, which is reused once the person is removed,
+     * this tells the persons indexed at some point apart from any added since, and follows a person across edits.
+     */
+    public boolean wasAddedBefore(Person person, long additionCount) {
+        requireNonNull(person);
+        Integer ordinal = ordinals.get(person);
+        return ordinal != null && additionNumbersByOrdinal.get(ordinal) < additionCount;
+    }
+
+    /**
+     * Returns the ordinals of the indexed persons with a role in {@code moduleCode}.
+     */
+    public CompressedBitmap getPersonsWithModule(ModuleCode moduleCode) {
+        requireNonNull(moduleCode);
+        return copyOf(personsByModule.get(moduleCode));
+    }
+
+    /**
+     * Returns the ordinals of the indexed persons with the role and module in {@code moduleRolePair}.
+     */
+    public CompressedBitmap getPersonsWithModuleRole(ModuleRolePair moduleRolePair) {
+        requireNonNull(moduleRolePair);
+        return copyOf(personsByModuleRole.get(moduleRolePair));
+    }
+
+    /**
+     * Returns the ordinals of the indexed persons with a tag whose name contains any keyword of {@code matcher},
+     * ignoring case. Only the distinct tag names are scanned, rather than the tags of every person.
+     */
+    public CompressedBitmap getPersonsWithTagContaining(MultiKeywordMatcher matcher) {
+        requireNonNull(matcher);
+        CompressedBitmap persons = new CompressedBitmap();
+        for (Map.Entry<String, CompressedBitmap> entry : personsByTag.entrySet()) {
+            if (matcher.isAnyFoundIn(entry.getKey())) {
+                persons = persons.or(entry.getValue());
+            }
+        }
+        return persons;
+    }
+
+    /**
+     * Returns the ordinals of the indexed persons whose name contains the keyword of {@code matcher}, ignoring case.
+     * The persons checked are narrowed down to those whose names hold every trigram of the keyword,
+     * or for a keyword shorter than a trigram, to those with a trigram containing it.
+     */
+    public CompressedBitmap getPersonsWithNameContaining(KeywordMatcher matcher) {
+        requireNonNull(matcher);
+        String preppedKeyword = KeywordMatcher.foldCase(matcher.getKeyword());
+        if (preppedKeyword.length() < TRIGRAM_LENGTH) {
+            // every substring this short of a name lies within one of its trigrams, or is the whole name
+            CompressedBitmap persons = new CompressedBitmap();
+            for (Map.Entry<String, CompressedBitmap> entry : personsByNameTrigram.entrySet()) {
+                if (matcher.isSubstringOf(entry.getKey())) {
+                    persons = persons.or(entry.getValue());
+                }
+            }
+            return persons;
+        }
+
+        CompressedBitmap candidates = null;
+        for (int i = 0; i + TRIGRAM_LENGTH <= preppedKeyword.length(); i++) {
+            CompressedBitmap persons = personsByNameTrigram.get(preppedKeyword.substring(i, i + TRIGRAM_LENGTH));
+            if (persons == null) {
+                return new CompressedBitmap();
+            }
+            if (candidates == null || persons.getCardinality() < candidates.getCardinality()) {
+                candidates = persons;
+            }
+        }
+
+        CompressedBitmap matchingPersons = new CompressedBitmap();
+        candidates.forEach(ordinal -> {
+            if (matcher.isSubstringOf(personsByOrdinal.get(ordinal).getName().fullName)) {
+                matchingPersons.add(ordinal);
+            }
+        });
+        return matchingPersons;
+    }
+
+    /**
+     * Returns the ordinals among {@code candidates} of the indexed persons satisfying {@code predicate},
+     * testing each candidate in turn.
+     */
+    public CompressedBitmap getOrdinalsMatching(CompressedBitmap candidates, Predicate<Person> predicate) {
+        requireAllNonNull(candidates, predicate);
+        CompressedBitmap matchingOrdinals = new CompressedBitmap();
+        candidates.forEach(ordinal -> {
+            if (predicate.test(getPerson(ordinal))) {
+                matchingOrdinals.add(ordinal);
+            }
+        });
+        return matchingOrdinals;
+    }
+
+    /**
+     * Returns an estimate of looking up the indexed persons with any of {@code moduleRolePairs}.
+     * The number of persons with each pair is known exactly.
+     */
+    public CostEstimate estimateModuleRoleLookup(Collection<ModuleRolePair> moduleRolePairs) {
+        requireAllNonNull(moduleRolePairs);
+        double matchCount = 0;
+        for (ModuleRolePair moduleRolePair : moduleRolePairs) {
+            CompressedBitmap persons = personsByModuleRole.get(moduleRolePair);
+            matchCount += persons == null ? 0 : persons.getCardinality();
+        }
+        return CostEstimate.of(matchCount, size(), moduleRolePairs.size() + matchCount);
+    }
+
+    /**
+     * Returns an estimate of looking up the indexed persons with a tag containing any keyword of {@code matcher}.
+     * Which tags match is only known by scanning them, so each keyword is assumed to match one tag held by the
+     * average number of persons per tag.
+     */
+    public CostEstimate estimateTagLookup(MultiKeywordMatcher matcher) {
+        requireNonNull(matcher);
+        double averagePersonsPerTag = personsByTag.isEmpty() ? 0 : (double) tagOccurrenceCount / personsByTag.size();
+        double matchCount = Math.min(size(), matcher.getKeywords().size() * averagePersonsPerTag);
+        return CostEstimate.of(matchCount, size(), personsByTag.size() + matchCount);
+    }
+
+    /**
+     * Returns an estimate of looking up the indexed persons whose name contains the keyword of {@code matcher}.
+     * The number of candidates found through the trigrams of the keyword is known exactly, and taken as the number of
+     * matches. A keyword shorter than a trigram is assumed to match every person.
+     */
+    public CostEstimate estimateNameLookup(KeywordMatcher matcher) {
+        requireNonNull(matcher);
+        String preppedKeyword = KeywordMatcher.foldCase(matcher.getKeyword());
+        if (preppedKeyword.length() < TRIGRAM_LENGTH) {
+            return CostEstimate.of(size(), size(), personsByNameTrigram.size() + size());
+        }
+
+        int candidateCount = Integer.MAX_VALUE;
+        for (int i = 0; i + TRIGRAM_LENGTH <= preppedKeyword.length() && candidateCount > 0; i++) {
+            CompressedBitmap persons = personsByNameTrigram.get(preppedKeyword.substring(i, i + TRIGRAM_LENGTH));
+            candidateCount = persons == null ? 0 : Math.min(candidateCount, persons.getCardinality());
+        }
+        int trigramCount = preppedKeyword.length() - TRIGRAM_LENGTH + 1;
+        return CostEstimate.of(candidateCount, size(), trigramCount + candidateCount);
+    }
+
+    /**
+     * Adds {@code person}, which must not already be indexed, to the indexes.
+     */
+    void add(Person person) {
+        int ordinal = freeOrdinals.isEmpty() ? personsByOrdinal.size() : freeOrdinals.pop();
+        Integer previousOrdinal = ordinals.put(person, ordinal);
+        assert previousOrdinal == null : "Person is already indexed";
+        if (ordinal == personsByOrdinal.size()) {
+            personsByOrdinal.add(person);
+            additionNumbersByOrdinal.add(additionCount);
+        } else {
+            personsByOrdinal.set(ordinal, person);
+            additionNumbersByOrdinal.set(ordinal, additionCount);
+        }
+        additionCount++;
+        allOrdinals.add(ordinal);
+        addFields(person, ordinal);
+        queryResultCache.personAdded(ordinal, person);
+    }
+
+    /**
+     * Removes {@code person}, which must have been added, from the indexes, freeing its ordinal.
+     */
+    void remove(Person person) {
+        Integer ordinal = ordinals.remove(person);
+        if (ordinal == null) {
+            return;
+        }
+        personsByOrdinal.set(ordinal, null);
+        freeOrdinals.push(ordinal);
+        allOrdinals.remove(ordinal);
+        removeFields(person, ordinal);
+        queryResultCache.personRemoved(ordinal);
+    }
+
+    /**
+     * Replaces {@code target}, which must have been added, with {@code editedPerson} in the indexes.
+     * {@code editedPerson} takes over the ordinal of {@code target}, so the edited person is still known as
+     * the same person by anything holding that ordinal.
+     */
+    void replace(Person target, Person editedPerson) {
+        Integer ordinal = ordinals.remove(target);
+        if (ordinal == null) {
+            add(editedPerson);
+            return;
+        }
+        Integer previousOrdinal = ordinals.put(editedPerson, ordinal);
+        assert previousOrdinal == null : "Person is already indexed";
+        personsByOrdinal.set(ordinal, editedPerson);
+        removeFields(target, ordinal);
+        addFields(editedPerson, ordinal);
+        queryResultCache.personRemoved(ordinal);
+        queryResultCache.personAdded(ordinal, editedPerson);
+    }
+
+    private void addFields(Person person, int ordinal) {
+        for (ModuleRolePair moduleRolePair : person.getModuleRoleMap().getData()) {
+            addTo(personsByModule, moduleRolePair.moduleCode, ordinal);
+            addTo(personsByModuleRole, moduleRolePair, ordinal);
+        }
+        for (Tag tag : person.getTags()) {
+            addTo(personsByTag, normalize(tag), ordinal);
+            tagOccurrenceCount++;
+        }
+        for (String trigram : getTrigrams(person.getName())) {
+            addTo(personsByNameTrigram, trigram, ordinal);
+        }
+    }
+
+    private void removeFields(Person person, int ordinal) {
+        for (ModuleRolePair moduleRolePair : person.getModuleRoleMap().getData()) {
+            removeFrom(personsByModule, moduleRolePair.moduleCode, ordinal);
+            removeFrom(personsByModuleRole, moduleRolePair, ordinal);
+        }
+        for (Tag tag : person.getTags()) {
+            removeFrom(personsByTag, normalize(tag), ordinal);
+            tagOccurrenceCount--;
+        }
+        for (String trigram : getTrigrams(person.getName())) {
+            removeFrom(personsByNameTrigram, trigram, ordinal);
+        }
+    }
+
+    /**
+     * Removes all persons from the indexes, freeing all ordinals.
+     */
+    void clear() {
+        ordinals.clear();
+        personsByOrdinal.clear();
+        additionNumbersByOrdinal.clear();
+        freeOrdinals.clear();
+        allOrdinals.clear();
+        personsByModule.clear();
+        personsByModuleRole.clear();
+        personsByTag.clear();
+        tagOccurrenceCount = 0;
+        personsByNameTrigram.clear();
+        queryResultCache.clear();
+    }
+
+    private static <K> void addTo(Map<K, CompressedBitmap> index, K key, int ordinal) {
+        index.computeIfAbsent(key, unused -> new CompressedBitmap()).add(ordinal);
+    }
+
+    private static <K> void removeFrom(Map<K, CompressedBitmap> index, K key, int ordinal) {
+        CompressedBitmap persons = index.get(key);
+        if (persons == null) {
+            return;
+        }
+        persons.remove(ordinal);
+        if (persons.isEmpty()) {
+            index.remove(key);
+        }
+    }
+    private static String normalize(Tag tag) {
+        return KeywordMatcher.foldCase(tag.tagName);
+    }
+
+    private static String normalize(Name name) {
+        return KeywordMatcher.foldCase(name.fullName);
+    }
+
+    /**
+     * Returns the distinct trigrams of {@code name} with its case folded,
+     * or the whole name if it is shorter than a trigram.
+     */
+    private static Set<String> getTrigrams(Name name) {
+        String normalizedName = normalize(name);
+        if (normalizedName.length() < TRIGRAM_LENGTH) {
+            return Collections.singleton(normalizedName);
+        }
+        Set<String> trigrams = new HashSet<>();
+        for (int i = 0; i + TRIGRAM_LENGTH <= normalizedName.length(); i++) {
+            trigrams.add(normalizedName.substring(i, i + TRIGRAM_LENGTH));
+        }
+        return trigrams;
+    }
+
+    private static CompressedBitmap copyOf(CompressedBitmap persons) {
+        return persons == null ? new CompressedBitmap() : persons.copy();
+    }
+}
@@ -0,0 +1,142 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.CompressedBitmap;
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * A cache of the persons found by recent find queries, as the ordinals in a {@code PersonIndex} of the persons
+ * matching each query, keyed by the cache key of the query. Once full, the least recently used query is evicted.
+ * The cached persons are kept up to date by the {@code PersonIndex} owning this cache: a person added is tested
+ * against each cached query, a person removed is removed from each, and clearing the index clears the cache.
+ */
+public class QueryResultCache {
+
+    public static final int DEFAULT_CAPACITY = 32;
+
+    public static final String MESSAGE_CONSTRAINTS = "Cache capacity must be positive";
+
+    private final int capacity;
+    private final Map<String, Entry> entries;
+    private int hitCount;
+    private int missCount;
+
+    /**
+     * Creates an empty cache holding the results of at most {@code capacity} queries.
+     */
+    public QueryResultCache(int capacity) {
+        checkArgument(capacity > 0, MESSAGE_CONSTRAINTS);
+        this.capacity = capacity;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > QueryResultCache.this.capacity;
+            }
+        };
+    }
+
+    /**
+     * Returns the ordinals of the persons matching the query with {@code key}, or null if they are not cached.
+     */
+    public CompressedBitmap get(String key) {
+        requireNonNull(key);
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            missCount++;
+            return null;
+        }
+        hitCount++;
+        return entry.matchingOrdinals.copy();
+    }
+
+    /**
+     * Caches {@code matchingOrdinals} as the ordinals of the persons matching the query with {@code key},
+     * which are the persons satisfying {@code predicate}.
+     */
+    public void put(String key, Predicate<Person> predicate, CompressedBitmap matchingOrdinals) {
+        requireAllNonNull(key, predicate, matchingOrdinals);
+        entries.put(key, new Entry(predicate, matchingOrdinals.copy()));
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public int getHitCount() {
+        return hitCount;
+    }
+
+    public int getMissCount() {
+        return missCount;
+    }
+
+    /**
+     * Returns the fraction of lookups that found their query cached, or 0 if there have been none.
+     */
+    public double getHitRate() {
+        int lookupCount = hitCount + missCount;
+        return lookupCount == 0 ? 0 : (double) hitCount / lookupCount;
+    }
+
+    /**
+     * Adds {@code ordinal} to the cached results of the queries that {@code person}, just indexed with that ordinal,
+     * matches.
+     */
+    void personAdded(int ordinal, Person person) {
+        for (Entry entry : entries.values()) {
+            if (entry.predicate.test(person)) {
+                entry.matchingOrdinals.add(ordinal);
+            }
+        }
+    }
+
+    /**
+     * Removes {@code ordinal}, just freed by the removal of a person, from all cached results.
+     */
+    void personRemoved(int ordinal) {
+        for (Entry entry : entries.values()) {
+            entry.matchingOrdinals.remove(ordinal);
+        }
+    }
+
+    /**
+     * Removes all cached results, keeping the counts of hits and misses.
+     */
+    void clear() {
+        entries.clear();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("size", size())
+                .add("capacity", capacity)
+                .add("hitCount", hitCount)
+                .add("missCount", missCount)
+                .toString();
+    }
+
+    /**
+     * The cached persons matching a query, with the predicate of the query to test persons added later.
+     */
+    private static class Entry {
+        private final Predicate<Person> predicate;
+        private final CompressedBitmap matchingOrdinals;
+
+        Entry(Predicate<Person> predicate, CompressedBitmap matchingOrdinals) {
+            this.predicate = predicate;
+            this.matchingOrdinals = matchingOrdinals;
+        }
+    }
+}
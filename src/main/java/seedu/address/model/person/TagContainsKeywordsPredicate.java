@@ -2,30 +2,49 @@ package seedu.address.model.person;
 
 import java.util.Collections;
 import java.util.List;
-import java.util.Set;
-import java.util.function.Predicate;
 
-import seedu.address.commons.util.StringUtil;
+import seedu.address.commons.util.CompressedBitmap;
+import seedu.address.commons.util.MultiKeywordMatcher;
 import seedu.address.commons.util.ToStringBuilder;
-import seedu.address.model.tag.Tag;
 
 /**
  * Tests that a {@code Person}'s {@code Tags} matches any of the keywords given.
  */
-public class TagContainsKeywordsPredicate implements Predicate<Person> {
+public class TagContainsKeywordsPredicate implements IndexedPredicate {
     private final List<String> keywords;
+    private final MultiKeywordMatcher matcher;
 
+    /**
+     * Every keyword must be non-empty.
+     */
     public TagContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
+        this.matcher = new MultiKeywordMatcher(keywords);
     }
 
     @Override
     public boolean test(Person person) {
-        Set<Tag> tags = person.getTags();
-        return tags.stream().anyMatch(tag ->
-            keywords.stream().anyMatch(keyword ->
-                StringUtil.containsSubstringIgnoreCase(tag.tagName, keyword))
-        );
+        for (int i = 0; i < person.getTagCount(); i++) {
+            if (matcher.isAnyFoundIn(person.getTag(i).tagName)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public CompressedBitmap getMatchingOrdinals(PersonIndex personIndex) {
+        return personIndex.getPersonsWithTagContaining(matcher);
+    }
+
+    @Override
+    public CostEstimate estimate(PersonIndex personIndex) {
+        return personIndex.estimateTagLookup(matcher);
+    }
+
+    @Override
+    public String getCacheKey() {
+        return IndexedPredicate.toCacheKey("tag", matcher.getNormalizedKeywords());
     }
 
     public List<String> getTagKeywords() {
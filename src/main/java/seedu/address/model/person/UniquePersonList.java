@@ -3,8 +3,14 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -19,6 +25,8 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  * as to ensure that the person with exactly the same fields will be removed.
  *
  * Supports a minimal set of list operations.
+ * Phones and emails in the list are indexed, so identity checks take constant time.
+ * Names, module codes, module-role pairs and tags are indexed in a {@code PersonIndex}.
  *
  * @see Person#isSamePerson(Person)
  */
@@ -28,12 +36,22 @@ public class UniquePersonList implements Iterable<Person> {
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
 
+    // Number of persons in the list holding each phone and email
+    private final Map<Phone, Integer> phoneCounts = new HashMap<>();
+    private final Map<Email, Integer> emailCounts = new HashMap<>();
+
+    private final PersonIndex personIndex = new PersonIndex();
+
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        if (!toCheck.hasPhone() && !toCheck.hasEmail()) {
+            // Such a person is only the same person as itself, which the identity-keyed index finds directly
+            return personIndex.getOrdinal(toCheck) >= 0;
+        }
+        return containsPhone(toCheck) || containsEmail(toCheck);
     }
 
     /**
@@ -41,7 +59,7 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public boolean containsPhone(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isPhonePresentAndSame);
+        return toCheck.getPhone().map(phoneCounts::containsKey).orElse(false);
     }
 
     /**
@@ -49,7 +67,7 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public boolean containsEmail(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isEmailPresentAndSame);
+        return toCheck.getEmail().map(emailCounts::containsKey).orElse(false);
     }
 
     /**
@@ -62,6 +80,20 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
         internalList.add(toAdd);
+        index(toAdd);
+    }
+
+    /**
+     * Inserts a person into the list at {@code index}.
+     * The person must not already exist in the list.
+     */
+    public void add(int index, Person toAdd) {
+        requireNonNull(toAdd);
+        if (contains(toAdd)) {
+            throw new DuplicatePersonException();
+        }
+        internalList.add(index, toAdd);
+        index(toAdd);
     }
 
     /**
@@ -81,6 +113,23 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
 
+        reindex(internalList.get(index), editedPerson);
+        internalList.set(index, editedPerson);
+    }
+
+    /**
+     * Replaces the person at {@code index} in the list with {@code editedPerson}.
+     * The person identity of {@code editedPerson} must not be the same as another existing person in the list.
+     */
+    public void setPerson(int index, Person editedPerson) {
+        requireNonNull(editedPerson);
+
+        Person target = internalList.get(index);
+        if (!target.isSamePerson(editedPerson) && contains(editedPerson)) {
+            throw new DuplicatePersonException();
+        }
+
+        reindex(target, editedPerson);
         internalList.set(index, editedPerson);
     }
 
@@ -90,14 +139,33 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = internalList.indexOf(toRemove);
+        if (index == -1) {
             throw new PersonNotFoundException();
         }
+        remove(index);
     }
 
+    /**
+     * Removes the person at {@code index} from the list.
+     */
+    public void remove(int index) {
+        unindex(internalList.remove(index));
+    }
+
+    /**
+     * Replaces the contents of this list with the persons in {@code replacement}.
+     * As {@code replacement} is already known to be unique, its persons are not checked again.
+     */
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        phoneCounts.clear();
+        phoneCounts.putAll(replacement.phoneCounts);
+        emailCounts.clear();
+        emailCounts.putAll(replacement.emailCounts);
+        personIndex.clear();
+        internalList.forEach(personIndex::add);
     }
 
     /**
@@ -111,6 +179,7 @@ public class UniquePersonList implements Iterable<Person> {
         }
 
         internalList.setAll(persons);
+        reindex();
     }
 
     /**
@@ -120,6 +189,13 @@ public class UniquePersonList implements Iterable<Person> {
         return internalUnmodifiableList;
     }
 
+    /**
+     * Returns the index of the names, module codes, module-role pairs and tags of the persons in this list.
+     */
+    public PersonIndex getPersonIndex() {
+        return personIndex;
+    }
+
     @Override
     public Iterator<Person> iterator() {
         return internalList.iterator();
@@ -150,15 +226,61 @@ public class UniquePersonList implements Iterable<Person> {
         return internalList.toString();
     }
 
+    private void index(Person person) {
+        person.getPhone().ifPresent(phone -> phoneCounts.merge(phone, 1, Integer::sum));
+        person.getEmail().ifPresent(email -> emailCounts.merge(email, 1, Integer::sum));
+        personIndex.add(person);
+    }
+
+    private void unindex(Person person) {
+        person.getPhone().ifPresent(phone -> decrement(phoneCounts, phone));
+        person.getEmail().ifPresent(email -> decrement(emailCounts, email));
+        personIndex.remove(person);
+    }
+
+    /**
+     * Replaces {@code target} with {@code editedPerson} in the indexes, keeping its ordinal in the person index.
+     * This is done before the list itself changes, so that listeners of the list see the indexes up to date.
+     */
+    private void reindex(Person target, Person editedPerson) {
+        target.getPhone().ifPresent(phone -> decrement(phoneCounts, phone));
+        target.getEmail().ifPresent(email -> decrement(emailCounts, email));
+        editedPerson.getPhone().ifPresent(phone -> phoneCounts.merge(phone, 1, Integer::sum));
+        editedPerson.getEmail().ifPresent(email -> emailCounts.merge(email, 1, Integer::sum));
+        personIndex.replace(target, editedPerson);
+    }
+
+    private static <K> void decrement(Map<K, Integer> counts, K key) {
+        counts.computeIfPresent(key, (unused, count) -> count == 1 ? null : count - 1);
+    }
+
+    private void reindex() {
+        phoneCounts.clear();
+        emailCounts.clear();
+        personIndex.clear();
+        internalList.forEach(this::index);
+    }
+
     /**
      * Returns true if {@code persons} contains only unique persons.
+     * Gives the same result as comparing every pair with {@code Person#isSamePerson(Person)},
+     * in a single pass over the present phones and emails.
      */
     private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
+        Set<Phone> phones = new HashSet<>();
+        Set<Email> emails = new HashSet<>();
+        Set<Person> personsWithoutPhoneOrEmail = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Person person : persons) {
+            if (!person.hasPhone() && !person.hasEmail()) {
+                if (!personsWithoutPhoneOrEmail.add(person)) {
                     return false;
                 }
+                continue;
+            }
+            boolean isPhoneSeen = person.getPhone().map(phone -> !phones.add(phone)).orElse(false);
+            boolean isEmailSeen = person.getEmail().map(email -> !emails.add(email)).orElse(false);
+            if (isPhoneSeen || isEmailSeen) {
+                return false;
             }
         }
         return true;
@@ -0,0 +1,116 @@
+package seedu.address.model.person.query;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.List;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.CompressedBitmap;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.CostEstimate;
+import seedu.address.model.person.IndexedPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonIndex;
+
+/**
+ * A query matching the persons that match all of its operands.
+ */
+public class AndQuery extends Query {
+
+    public static final String MESSAGE_CONSTRAINTS = "A query must combine at least two operands";
+
+    private static final Logger logger = LogsCenter.getLogger(AndQuery.class);
+
+    private final List<Query> operands;
+
+    /**
+     * Creates a query of the conjunction of {@code operands}, of which there must be at least two.
+     */
+    public AndQuery(List<Query> operands) {
+        requireAllNonNull(operands);
+        checkArgument(operands.size() >= 2, MESSAGE_CONSTRAINTS);
+        this.operands = List.copyOf(operands);
+    }
+
+    @Override
+    public boolean test(Person person) {
+        for (Query operand : operands) {
+            if (!operand.test(person)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Each operand is only evaluated on the persons matching the operands before it, and none are evaluated once
+     * no persons are left. Operands that are cheap and rule out many persons are evaluated first.
+     */
+    @Override
+    CompressedBitmap evaluate(PersonIndex personIndex, CompressedBitmap candidates) {
+        List<PlannedOperand> plannedOperands = plan(operands, personIndex, CostEstimate::getConjunctionRank);
+        logger.fine(() -> "Evaluating AND of " + describePlan(plannedOperands));
+
+        CompressedBitmap matchingOrdinals = candidates;
+        for (PlannedOperand plannedOperand : plannedOperands) {
+            if (matchingOrdinals.isEmpty()) {
+                break;
+            }
+            matchingOrdinals = plannedOperand.operand.evaluate(personIndex, matchingOrdinals);
+        }
+        return matchingOrdinals == candidates ? candidates.copy() : matchingOrdinals;
+    }
+
+    /**
+     * The operands are taken to be independent, each evaluated on the persons expected to match the ones before it.
+     */
+    @Override
+    public CostEstimate estimate(PersonIndex personIndex) {
+        double selectivity = 1;
+        double cost = 0;
+        for (PlannedOperand plannedOperand : plan(operands, personIndex, CostEstimate::getConjunctionRank)) {
+            CostEstimate operandEstimate = plannedOperand.estimate;
+            cost += operandEstimate.getCostAmong(selectivity * personIndex.size());
+            selectivity *= operandEstimate.getSelectivity();
+        }
+        return new CostEstimate(selectivity, cost);
+    }
+
+    @Override
+    public String getCacheKey() {
+        return IndexedPredicate.combineCacheKeys("AND", operands);
+    }
+
+    @Override
+    public String describe() {
+        return operands.stream().map(Query::describeOperand).collect(Collectors.joining(" AND "));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof AndQuery)) {
+            return false;
+        }
+
+        AndQuery otherAndQuery = (AndQuery) other;
+        return operands.equals(otherAndQuery.operands);
+    }
+
+    @Override
+    public int hashCode() {
+        return operands.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("operands", operands).toString();
+    }
+}
@@ -0,0 +1,76 @@
+package seedu.address.model.person.query;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.commons.util.CompressedBitmap;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.CostEstimate;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonIndex;
+
+/**
+ * A query matching the persons that do not match its operand.
+ */
+public class NotQuery extends Query {
+
+    private final Query operand;
+
+    /**
+     * Creates a query of the negation of {@code operand}.
+     */
+    public NotQuery(Query operand) {
+        requireNonNull(operand);
+        this.operand = operand;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return !operand.test(person);
+    }
+
+    @Override
+    CompressedBitmap evaluate(PersonIndex personIndex, CompressedBitmap candidates) {
+        return candidates.andNot(operand.evaluate(personIndex, candidates));
+    }
+
+    @Override
+    public CostEstimate estimate(PersonIndex personIndex) {
+        CostEstimate operandEstimate = operand.estimate(personIndex);
+        return new CostEstimate(1 - operandEstimate.getSelectivity(), operandEstimate.getCost());
+    }
+
+    @Override
+    public String getCacheKey() {
+        return "NOT(" + operand.getCacheKey() + ")";
+    }
+
+    @Override
+    public String describe() {
+        return "NOT " + describeOperand(operand);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof NotQuery)) {
+            return false;
+        }
+
+        NotQuery otherNotQuery = (NotQuery) other;
+        return operand.equals(otherNotQuery.operand);
+    }
+
+    @Override
+    public int hashCode() {
+        return ~operand.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("operand", operand).toString();
+    }
+}
@@ -0,0 +1,120 @@
+package seedu.address.model.person.query;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.List;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.CompressedBitmap;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.CostEstimate;
+import seedu.address.model.person.IndexedPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonIndex;
+
+/**
+ * A query matching the persons that match any of its operands.
+ */
+public class OrQuery extends Query {
+
+    public static final String MESSAGE_CONSTRAINTS = "A query must combine at least two operands";
+
+    private static final Logger logger = LogsCenter.getLogger(OrQuery.class);
+
+    private final List<Query> operands;
+
+    /**
+     * Creates a query of the disjunction of {@code operands}, of which there must be at least two.
+     */
+    public OrQuery(List<Query> operands) {
+        requireAllNonNull(operands);
+        checkArgument(operands.size() >= 2, MESSAGE_CONSTRAINTS);
+        this.operands = List.copyOf(operands);
+    }
+
+    @Override
+    public boolean test(Person person) {
+        for (Query operand : operands) {
+            if (operand.test(person)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Each operand is only evaluated on the persons not already matched by the operands before it, and none are
+     * evaluated once all persons are matched. Operands that are cheap and match many persons are evaluated first.
+     */
+    @Override
+    CompressedBitmap evaluate(PersonIndex personIndex, CompressedBitmap candidates) {
+        List<PlannedOperand> plannedOperands = plan(operands, personIndex, CostEstimate::getDisjunctionRank);
+        logger.fine(() -> "Evaluating OR of " + describePlan(plannedOperands));
+
+        CompressedBitmap matchingOrdinals = new CompressedBitmap();
+        CompressedBitmap remainingOrdinals = candidates;
+        for (PlannedOperand plannedOperand : plannedOperands) {
+            if (remainingOrdinals.isEmpty()) {
+                break;
+            }
+            CompressedBitmap operandMatches = plannedOperand.operand.evaluate(personIndex, remainingOrdinals);
+            matchingOrdinals = matchingOrdinals.or(operandMatches);
+            remainingOrdinals = remainingOrdinals.andNot(operandMatches);
+        }
+        return matchingOrdinals;
+    }
+
+    /**
+     * The operands are taken to be independent, each evaluated on the persons expected to be left unmatched by the
+     * ones before it.
+     */
+    @Override
+    public CostEstimate estimate(PersonIndex personIndex) {
+        double unmatchedFraction = 1;
+        double cost = 0;
+        for (PlannedOperand plannedOperand : plan(operands, personIndex, CostEstimate::getDisjunctionRank)) {
+            CostEstimate operandEstimate = plannedOperand.estimate;
+            cost += operandEstimate.getCostAmong(unmatchedFraction * personIndex.size());
+            unmatchedFraction *= 1 - operandEstimate.getSelectivity();
+        }
+        return new CostEstimate(1 - unmatchedFraction, cost);
+    }
+
+    @Override
+    public String getCacheKey() {
+        return IndexedPredicate.combineCacheKeys("OR", operands);
+    }
+
+    @Override
+    public String describe() {
+        return operands.stream().map(Query::describeOperand).collect(Collectors.joining(" OR "));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof OrQuery)) {
+            return false;
+        }
+
+        OrQuery otherOrQuery = (OrQuery) other;
+        return operands.equals(otherOrQuery.operands);
+    }
+
+    @Override
+    public int hashCode() {
+        return operands.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("operands", operands).toString();
+    }
+}
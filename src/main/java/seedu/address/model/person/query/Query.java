@@ -0,0 +1,94 @@
+package seedu.address.model.person.query;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.ToDoubleFunction;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.util.CompressedBitmap;
+import seedu.address.model.person.CostEstimate;
+import seedu.address.model.person.IndexedPredicate;
+import seedu.address.model.person.PersonIndex;
+
+/**
+ * A boolean combination of conditions on persons, as given in a find query.
+ * Besides testing persons one at a time, a query is evaluated on a {@code PersonIndex} as a bitmap of the ordinals of
+ * the matching persons. Each part of the query is only evaluated on the persons that the parts before it leave
+ * undecided, in the order that the estimates of the parts on the current contents of the index suggest is cheapest.
+ */
+public abstract class Query implements IndexedPredicate {
+
+    @Override
+    public CompressedBitmap getMatchingOrdinals(PersonIndex personIndex) {
+        requireNonNull(personIndex);
+        return evaluate(personIndex, personIndex.getAllOrdinals());
+    }
+
+    @Override
+    public CompressedBitmap getMatchingOrdinals(PersonIndex personIndex, CompressedBitmap candidates) {
+        requireAllNonNull(personIndex, candidates);
+        return evaluate(personIndex, candidates);
+    }
+
+    /**
+     * Returns the ordinals among {@code candidates} of the persons in {@code personIndex} that satisfy this query.
+     * {@code candidates} is left unchanged.
+     */
+    abstract CompressedBitmap evaluate(PersonIndex personIndex, CompressedBitmap candidates);
+
+    /**
+     * Returns this query in the form shown to the user, with the keywords of each condition in parentheses.
+     */
+    public abstract String describe();
+
+    /**
+     * Returns {@code operands} with their estimates on {@code personIndex}, in ascending order of the ranks given by
+     * {@code rank} to the estimates, keeping the given order between equal ranks.
+     */
+    static List<PlannedOperand> plan(List<Query> operands, PersonIndex personIndex,
+            ToDoubleFunction<CostEstimate> rank) {
+        List<PlannedOperand> plannedOperands = new ArrayList<>();
+        for (Query operand : operands) {
+            plannedOperands.add(new PlannedOperand(operand, operand.estimate(personIndex)));
+        }
+        plannedOperands.sort(Comparator.comparingDouble(plannedOperand -> rank.applyAsDouble(plannedOperand.estimate)));
+        return plannedOperands;
+    }
+
+    /**
+     * Returns a description of the order in which {@code plannedOperands} are evaluated, with the estimate of each,
+     * for logging.
+     */
+    static String describePlan(List<PlannedOperand> plannedOperands) {
+        return plannedOperands.stream()
+                .map(plannedOperand -> describeOperand(plannedOperand.operand) + " " + plannedOperand.estimate)
+                .collect(Collectors.joining(", then "));
+    }
+
+    /**
+     * Returns the description of {@code operand} as part of a larger query, in parentheses if it combines others.
+     */
+    static String describeOperand(Query operand) {
+        if (operand instanceof AndQuery || operand instanceof OrQuery) {
+            return "(" + operand.describe() + ")";
+        }
+        return operand.describe();
+    }
+
+    /**
+     * An operand of a query with its estimate on the {@code PersonIndex} that the query is evaluated on.
+     */
+    static class PlannedOperand {
+        final Query operand;
+        final CostEstimate estimate;
+
+        PlannedOperand(Query operand, CostEstimate estimate) {
+            this.operand = operand;
+            this.estimate = estimate;
+        }
+    }
+}
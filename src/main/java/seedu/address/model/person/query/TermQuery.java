@@ -0,0 +1,82 @@
+package seedu.address.model.person.query;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.List;
+
+import seedu.address.commons.util.CompressedBitmap;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.CostEstimate;
+import seedu.address.model.person.IndexedPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonIndex;
+
+/**
+ * A query of a single condition on one field of persons, matching any of its keywords.
+ */
+public class TermQuery extends Query {
+
+    private final IndexedPredicate predicate;
+    private final List<String> keywords;
+
+    /**
+     * Creates a query of {@code predicate}, described to the user by {@code keywords}.
+     */
+    public TermQuery(IndexedPredicate predicate, List<String> keywords) {
+        requireAllNonNull(predicate, keywords);
+        this.predicate = predicate;
+        this.keywords = List.copyOf(keywords);
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return predicate.test(person);
+    }
+
+    @Override
+    CompressedBitmap evaluate(PersonIndex personIndex, CompressedBitmap candidates) {
+        return predicate.getMatchingOrdinals(personIndex, candidates);
+    }
+
+    @Override
+    public CostEstimate estimate(PersonIndex personIndex) {
+        return predicate.estimate(personIndex);
+    }
+
+    @Override
+    public String getCacheKey() {
+        return predicate.getCacheKey();
+    }
+
+    @Override
+    public String describe() {
+        return "(" + String.join(" OR ", keywords) + ")";
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof TermQuery)) {
+            return false;
+        }
+
+        TermQuery otherTermQuery = (TermQuery) other;
+        return predicate.equals(otherTermQuery.predicate)
+                && keywords.equals(otherTermQuery.keywords);
+    }
+
+    @Override
+    public int hashCode() {
+        // The predicates do not define their own hash codes
+        return keywords.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("predicate", predicate).toString();
+    }
+}
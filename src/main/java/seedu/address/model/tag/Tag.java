@@ -3,6 +3,8 @@ package seedu.address.model.tag;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.WeakInterner;
+
 /**
  * Represents a Tag in the address book.
  * Guarantees: immutable; name is valid as declared in {@link #isValidTagName(String)}
@@ -12,6 +14,8 @@ public class Tag {
     public static final String MESSAGE_CONSTRAINTS = "Tags names should be alphanumeric, and it should not be blank";
     public static final String VALIDATION_REGEX = "\\p{Alnum}+";
 
+    private static final WeakInterner<Tag> INTERNER = new WeakInterner<>(Tag::new, tag -> tag.tagName);
+
     public final String tagName;
 
     /**
@@ -25,6 +29,16 @@ public class Tag {
         this.tagName = tagName;
     }
 
+    /**
+     * Returns the canonical {@code Tag} named {@code tagName}, so that equal tags share one instance.
+     * Prefer this to the constructor for tags that are kept in the address book.
+     *
+     * @param tagName A valid tag name.
+     */
+    public static Tag of(String tagName) {
+        return INTERNER.intern(tagName);
+    }
+
     /**
      * Returns true if a given string is a valid tag name.
      */
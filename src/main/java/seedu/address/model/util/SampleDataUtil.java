@@ -97,7 +97,7 @@ public class SampleDataUtil {
      */
     public static Set<Tag> getTagSet(String... strings) {
         return Arrays.stream(strings)
-                .map(Tag::new)
+                .map(Tag::of)
                 .collect(Collectors.toSet());
     }
 
@@ -127,7 +127,7 @@ public class SampleDataUtil {
      */
     public static ModuleRoleMap getMap(String moduleCode, RoleType roleType) {
         HashMap<ModuleCode, RoleType> hashMap = new HashMap<>();
-        hashMap.put(new ModuleCode(moduleCode), roleType);
+        hashMap.put(ModuleCode.of(moduleCode), roleType);
         ModuleRoleMap map = new ModuleRoleMap(hashMap);
         return map;
     }
@@ -137,9 +137,9 @@ public class SampleDataUtil {
      */
     public static ModuleRoleMap getMultipleRolesMap() {
         HashMap<ModuleCode, RoleType> hashMap = new HashMap<>();
-        hashMap.put(new ModuleCode("CS2103T"), RoleType.TUTOR);
-        hashMap.put(new ModuleCode("CS1101S"), RoleType.TUTOR);
-        hashMap.put(new ModuleCode("MA1521"), RoleType.STUDENT);
+        hashMap.put(ModuleCode.of("CS2103T"), RoleType.TUTOR);
+        hashMap.put(ModuleCode.of("CS1101S"), RoleType.TUTOR);
+        hashMap.put(ModuleCode.of("MA1521"), RoleType.STUDENT);
         ModuleRoleMap map = new ModuleRoleMap(hashMap);
         return map;
     }
@@ -0,0 +1,299 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Description;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.ModuleCode;
+import seedu.address.model.person.ModuleRoleMap;
+import seedu.address.model.person.ModuleRolePair;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.RoleType;
+import seedu.address.model.tag.Tag;
+
+/**
+ * A class to access AddressBook data stored as a compact binary snapshot on the hard disk.
+ *
+ * The file starts with a magic number and format version, followed by a dictionary of every distinct tag name
+ * and one of every distinct module code. Each person then refers to its tags and modules by their index in
+ * these dictionaries, so each distinct tag and module code is only stored and validated once.
+ * All strings are stored as their UTF-8 byte length followed by the bytes.
+ */
+public class BinaryAddressBookStorage implements AddressBookStorage {
+
+    public static final String BINARY_FILE_EXTENSION = ".bin";
+    public static final int MAGIC = 0x43435342; // "CCSB"
+    public static final int FORMAT_VERSION = 1;
+
+    public static final String MESSAGE_NOT_BINARY_FILE = "File is not a binary address book";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Binary address book version %d is not supported";
+    public static final String MESSAGE_CORRUPTED_FILE = "Binary address book is corrupted";
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorage.class);
+
+    private static final int HAS_PHONE = 1;
+    private static final int HAS_EMAIL = 1 << 1;
+    private static final int HAS_ADDRESS = 1 << 2;
+    private static final int HAS_DESCRIPTION = 1 << 3;
+
+    private static final RoleType[] ROLE_TYPES = RoleType.values();
+
+    private final Path filePath;
+
+    public BinaryAddressBookStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    /**
+     * Returns the path of the binary snapshot kept in place of the JSON file at {@code jsonFilePath}.
+     * Any extension of the JSON file name is replaced with {@value #BINARY_FILE_EXTENSION}.
+     */
+    public static Path getBinaryFilePath(Path jsonFilePath) {
+        String fileName = jsonFilePath.getFileName().toString();
+        int extensionIndex = fileName.lastIndexOf('.');
+        String baseName = extensionIndex > 0 ? fileName.substring(0, extensionIndex) : fileName;
+        return jsonFilePath.resolveSibling(baseName + BINARY_FILE_EXTENSION);
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     * The file is read into the heap in one go rather than memory-mapped, so that no mapping keeps
+     * the file locked when it is rewritten straight after, e.g. when its journal is compacted.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+        logger.info("Binary file " + filePath + " found.");
+
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(filePath));
+            return Optional.of(decode(buffer));
+        } catch (IOException e) {
+            logger.warning("Error reading from binary file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        FileUtil.writeAtomically(filePath, out -> {
+            DataOutputStream dataOut = new DataOutputStream(out);
+            encode(addressBook, dataOut);
+            dataOut.flush();
+        });
+    }
+
+    private static void encode(ReadOnlyAddressBook addressBook, DataOutputStream out) throws IOException {
+        List<Person> persons = addressBook.getPersonList();
+        Map<String, Integer> tagIndexes = new LinkedHashMap<>();
+        Map<String, Integer> moduleIndexes = new LinkedHashMap<>();
+        for (Person person : persons) {
+            for (Tag tag : person.getTags()) {
+                tagIndexes.putIfAbsent(tag.tagName, tagIndexes.size());
+            }
+            for (ModuleRolePair role : person.getModuleRoleMap().getData()) {
+                moduleIndexes.putIfAbsent(role.moduleCode.moduleCode, moduleIndexes.size());
+            }
+        }
+
+        out.writeInt(MAGIC);
+        out.writeInt(FORMAT_VERSION);
+        writeDictionary(tagIndexes, out);
+        writeDictionary(moduleIndexes, out);
+
+        out.writeInt(persons.size());
+        for (Person person : persons) {
+            writeString(person.getName().fullName, out);
+
+            Optional<String> phone = person.getPhone().map(value -> value.value);
+            Optional<String> email = person.getEmail().map(value -> value.value);
+            Optional<String> address = person.getAddress().map(value -> value.value);
+            Optional<String> description = person.getDescription().map(value -> value.value);
+            int flags = (phone.isPresent() ? HAS_PHONE : 0)
+                    | (email.isPresent() ? HAS_EMAIL : 0)
+                    | (address.isPresent() ? HAS_ADDRESS : 0)
+                    | (description.isPresent() ? HAS_DESCRIPTION : 0);
+            out.writeByte(flags);
+            for (Optional<String> field : List.of(phone, email, address, description)) {
+                if (field.isPresent()) {
+                    writeString(field.get(), out);
+                }
+            }
+
+            out.writeInt(person.getTags().size());
+            for (Tag tag : person.getTags()) {
+                out.writeInt(tagIndexes.get(tag.tagName));
+            }
+
+            List<ModuleRolePair> roles = person.getModuleRoleMap().getData();
+            out.writeInt(roles.size());
+            for (ModuleRolePair role : roles) {
+                out.writeInt(moduleIndexes.get(role.moduleCode.moduleCode));
+                out.writeByte(role.roleType.ordinal());
+            }
+        }
+    }
+
+    private static void writeDictionary(Map<String, Integer> indexes, DataOutputStream out) throws IOException {
+        out.writeInt(indexes.size());
+        for (String value : indexes.keySet()) {
+            writeString(value, out);
+        }
+    }
+
+    private static void writeString(String value, DataOutputStream out) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static AddressBook decode(ByteBuffer buffer) throws IOException, IllegalValueException {
+        try {
+            if (buffer.remaining() < Integer.BYTES || buffer.getInt() != MAGIC) {
+                throw new IOException(MESSAGE_NOT_BINARY_FILE);
+            }
+            int version = buffer.getInt();
+            if (version != FORMAT_VERSION) {
+                throw new IOException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+            }
+
+            List<Tag> tags = new ArrayList<>();
+            for (String tagName : readDictionary(buffer)) {
+                tags.add(Tag.of(tagName));
+            }
+            List<ModuleCode> moduleCodes = new ArrayList<>();
+            for (String moduleCode : readDictionary(buffer)) {
+                moduleCodes.add(ModuleCode.of(moduleCode));
+            }
+
+            AddressBook addressBook = new AddressBook();
+            int personCount = readCount(buffer);
+            for (int i = 0; i < personCount; i++) {
+                Person person = readPerson(buffer, tags, moduleCodes);
+                if (addressBook.hasPerson(person)) {
+                    throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+                }
+                addressBook.addPerson(person);
+            }
+            return addressBook;
+        } catch (BufferUnderflowException | IndexOutOfBoundsException e) {
+            throw new IOException(MESSAGE_CORRUPTED_FILE, e);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalValueException(e.getMessage());
+        }
+    }
+
+    private static Person readPerson(ByteBuffer buffer, List<Tag> tags, List<ModuleCode> moduleCodes)
+            throws IOException {
+        Name name = new Name(readString(buffer));
+        int flags = buffer.get();
+        Phone phone = (flags & HAS_PHONE) != 0 ? new Phone(readString(buffer)) : null;
+        Email email = (flags & HAS_EMAIL) != 0 ? new Email(readString(buffer)) : null;
+        Address address = (flags & HAS_ADDRESS) != 0 ? new Address(readString(buffer)) : null;
+        Description description = (flags & HAS_DESCRIPTION) != 0 ? new Description(readString(buffer)) : null;
+
+        int tagCount = readCount(buffer);
+        Set<Tag> personTags = new HashSet<>();
+        for (int i = 0; i < tagCount; i++) {
+            personTags.add(tags.get(buffer.getInt()));
+        }
+
+        int roleCount = readCount(buffer);
+        Map<ModuleCode, RoleType> roles = new LinkedHashMap<>();
+        for (int i = 0; i < roleCount; i++) {
+            ModuleCode moduleCode = moduleCodes.get(buffer.getInt());
+            roles.put(moduleCode, ROLE_TYPES[buffer.get()]);
+        }
+
+        return new Person(name, Optional.ofNullable(phone), Optional.ofNullable(email),
+                Optional.ofNullable(address), personTags, new ModuleRoleMap(roles),
+                Optional.ofNullable(description));
+    }
+
+    private static List<String> readDictionary(ByteBuffer buffer) throws IOException {
+        int size = readCount(buffer);
+        List<String> values = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            values.add(readString(buffer));
+        }
+        return values;
+    }
+
+    private static String readString(ByteBuffer buffer) throws IOException {
+        int length = readCount(buffer);
+        if (length > buffer.remaining()) {
+            throw new IOException(MESSAGE_CORRUPTED_FILE);
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Reads a count, rejecting values that could not possibly fit in the rest of the buffer.
+     */
+    private static int readCount(ByteBuffer buffer) throws IOException {
+        int count = buffer.getInt();
+        if (count < 0 || count > buffer.remaining()) {
+            throw new IOException(MESSAGE_CORRUPTED_FILE);
+        }
+        return count;
+    }
+}
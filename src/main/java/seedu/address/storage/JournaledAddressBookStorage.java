@@ -0,0 +1,467 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+
+/**
+ * An {@code AddressBookStorage} that keeps a full snapshot of the address book in another
+ * {@code AddressBookStorage} and records subsequent changes in an append-only journal file beside it.
+ *
+ * Each save compares the given address book against the last persisted one and appends one compact line
+ * per inserted or removed person, instead of rewriting the whole snapshot. The journal is folded back into
+ * the snapshot (compacted) once it grows past a threshold, and whenever it is replayed on load.
+ * Appended records are synced to the disk, and the journal names the snapshot it applies to by a hash of its content.
+ */
+public class JournaledAddressBookStorage implements AddressBookStorage {
+
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+    public static final String SNAPSHOT_TEMP_FILE_SUFFIX = ".snapshot.tmp";
+    public static final int DEFAULT_COMPACTION_THRESHOLD = 1000;
+
+    public static final String MESSAGE_INVALID_JOURNAL_HEADER = "Journal file %s does not start with a header.";
+    public static final String MESSAGE_INVALID_JOURNAL_INDEX = "Journal record %d refers to an invalid index %d.";
+    public static final String MESSAGE_UNEXPECTED_JOURNAL_RECORD = "Journal record %d is not a person change.";
+
+    private static final String SNAPSHOT_HASH_ALGORITHM = "SHA-256";
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledAddressBookStorage.class);
+
+    private final AddressBookStorage snapshotStorage;
+    private final int compactionThreshold;
+
+    /** Persons as last persisted to the default file path, or null if unknown. */
+    private List<Person> persistedPersons;
+    private int journalRecordCount;
+
+    /**
+     * Creates a {@code JournaledAddressBookStorage} that stores its snapshots in {@code snapshotStorage}.
+     */
+    public JournaledAddressBookStorage(AddressBookStorage snapshotStorage) {
+        this(snapshotStorage, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * Creates a {@code JournaledAddressBookStorage} that stores its snapshots in {@code snapshotStorage}
+     * and compacts the journal once it holds more than {@code compactionThreshold} records.
+     */
+    public JournaledAddressBookStorage(AddressBookStorage snapshotStorage, int compactionThreshold) {
+        requireNonNull(snapshotStorage);
+        assert compactionThreshold > 0 : "Compaction threshold must be positive";
+        this.snapshotStorage = snapshotStorage;
+        this.compactionThreshold = compactionThreshold;
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return snapshotStorage.getAddressBookFilePath();
+    }
+
+    /**
+     * Returns the path of the journal file that accompanies the data file at {@code filePath}.
+     */
+    public static Path getJournalFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + JOURNAL_FILE_SUFFIX);
+    }
+
+    /**
+     * Returns the time at which the data in this storage was last written, i.e. the later of the
+     * modification times of its snapshot and journal, or {@code Optional.empty()} if there is no snapshot.
+     */
+    public synchronized Optional<FileTime> getLastModifiedTime() throws IOException {
+        Path snapshotFilePath = getAddressBookFilePath();
+        if (!FileUtil.isFileExists(snapshotFilePath)) {
+            return Optional.empty();
+        }
+
+        FileTime lastModified = Files.getLastModifiedTime(snapshotFilePath);
+        Path journalFilePath = getJournalFilePath(snapshotFilePath);
+        if (FileUtil.isFileExists(journalFilePath)) {
+            FileTime journalModified = Files.getLastModifiedTime(journalFilePath);
+            if (journalModified.compareTo(lastModified) > 0) {
+                lastModified = journalModified;
+            }
+        }
+        return Optional.of(lastModified);
+    }
+
+    /**
+     * Replaces the data in this storage with the data in {@code other} if {@code other} was written more
+     * recently, e.g. the same address book kept in another format that was in use until now.
+     * The data in this storage is kept if it is at least as recent as that in {@code other}.
+     *
+     * @return true if the data in {@code other} was imported.
+     * @throws DataLoadingException if the data in {@code other} could not be loaded.
+     * @throws IOException if the data files could not be inspected or written.
+     */
+    public boolean importIfNewer(JournaledAddressBookStorage other) throws DataLoadingException, IOException {
+        requireNonNull(other);
+
+        Optional<FileTime> otherModified = other.getLastModifiedTime();
+        if (otherModified.isEmpty()) {
+            return false;
+        }
+        Optional<FileTime> ownModified = getLastModifiedTime();
+        if (ownModified.isPresent() && ownModified.get().compareTo(otherModified.get()) >= 0) {
+            return false;
+        }
+
+        Optional<ReadOnlyAddressBook> otherData = other.readAddressBook();
+        if (otherData.isEmpty()) {
+            return false;
+        }
+        synchronized (this) {
+            writeSnapshot(otherData.get(), getAddressBookFilePath());
+        }
+        return true;
+    }
+
+    @Override
+    public synchronized Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(getAddressBookFilePath());
+    }
+
+    /**
+     * Reads the snapshot at {@code filePath} and replays its journal, if any, on top of it.
+     * A successfully replayed journal is compacted into a new snapshot straight away.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the snapshot or replaying the journal failed.
+     */
+    @Override
+    public synchronized Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        Optional<ReadOnlyAddressBook> snapshot = snapshotStorage.readAddressBook(filePath);
+        Path journalFilePath = getJournalFilePath(filePath);
+
+        if (!FileUtil.isFileExists(journalFilePath)) {
+            rememberPersisted(filePath, snapshot);
+            return snapshot;
+        }
+
+        List<String> lines = readJournalLines(journalFilePath);
+        if (!isJournalOf(filePath, journalFilePath, lines)) {
+            logger.warning("Journal " + journalFilePath + " does not match its data file and will be discarded.");
+            try {
+                Files.deleteIfExists(journalFilePath);
+            } catch (IOException e) {
+                logger.warning("Failed to discard journal " + journalFilePath + ": " + e.getMessage());
+            }
+            rememberPersisted(filePath, snapshot);
+            return snapshot;
+        }
+
+        List<Person> persons = new ArrayList<>();
+        snapshot.ifPresent(book -> persons.addAll(book.getPersonList()));
+        int replayedCount = replayJournal(journalFilePath, lines, persons);
+        logger.info("Replayed " + replayedCount + " journal records from " + journalFilePath);
+
+        AddressBook addressBook = new AddressBook();
+        try {
+            addressBook.setPersons(persons);
+        } catch (DuplicatePersonException e) {
+            throw new DataLoadingException(
+                    new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON));
+        }
+
+        try {
+            writeSnapshot(addressBook, filePath);
+        } catch (IOException e) {
+            logger.warning("Failed to compact journal " + journalFilePath + ": " + e.getMessage());
+            rememberPersisted(filePath, Optional.empty());
+        }
+        return Optional.of(addressBook);
+    }
+
+    /**
+     * Records {@code snapshot} as the last persisted state if {@code filePath} is the default data file.
+     */
+    private void rememberPersisted(Path filePath, Optional<ReadOnlyAddressBook> snapshot) {
+        if (filePath.equals(getAddressBookFilePath())) {
+            persistedPersons = snapshot.map(book -> new ArrayList<>(book.getPersonList())).orElse(null);
+            journalRecordCount = 0;
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, getAddressBookFilePath());
+    }
+
+    /**
+     * Saves {@code addressBook} to {@code filePath}.
+     * Changes to the default data file are appended to its journal where possible;
+     * any other file is written as a full snapshot.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(getAddressBookFilePath())) {
+            snapshotStorage.saveAddressBook(addressBook, filePath);
+            return;
+        }
+
+        Path snapshotFilePath = getAddressBookFilePath();
+        if (persistedPersons == null || !FileUtil.isFileExists(snapshotFilePath)) {
+            writeSnapshot(addressBook, snapshotFilePath);
+            return;
+        }
+
+        List<Person> currentPersons = addressBook.getPersonList();
+        Optional<List<JsonAdaptedJournalRecord>> records = computeChanges(persistedPersons, currentPersons);
+        if (records.isPresent() && records.get().isEmpty()) {
+            return;
+        }
+        if (records.isEmpty() || journalRecordCount + records.get().size() > compactionThreshold) {
+            writeSnapshot(addressBook, snapshotFilePath);
+            return;
+        }
+
+        appendToJournal(snapshotFilePath, records.get());
+        persistedPersons = new ArrayList<>(currentPersons);
+    }
+
+    /**
+     * Writes {@code addressBook} as a full snapshot to {@code filePath} and discards its journal.
+     * The snapshot is written to a temporary file and moved in place before the journal is deleted, so that
+     * an interrupted write leaves either the old snapshot with its journal, or the new snapshot. A journal left
+     * behind by an interruption just before its deletion does not match the new snapshot, and is discarded.
+     */
+    private void writeSnapshot(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        Path tempFilePath = filePath.resolveSibling(filePath.getFileName() + SNAPSHOT_TEMP_FILE_SUFFIX);
+        try {
+            snapshotStorage.saveAddressBook(addressBook, tempFilePath);
+            FileUtil.moveAtomically(tempFilePath, filePath);
+        } finally {
+            Files.deleteIfExists(tempFilePath);
+        }
+        Files.deleteIfExists(getJournalFilePath(filePath));
+
+        if (filePath.equals(getAddressBookFilePath())) {
+            persistedPersons = new ArrayList<>(addressBook.getPersonList());
+            journalRecordCount = 0;
+        }
+    }
+
+    /**
+     * Appends {@code records} to the journal of the snapshot at {@code snapshotFilePath},
+     * starting the journal with a header if it is new. The records are synced to the disk before returning.
+     */
+    private void appendToJournal(Path snapshotFilePath, List<JsonAdaptedJournalRecord> records) throws IOException {
+        Path journalFilePath = getJournalFilePath(snapshotFilePath);
+        List<String> lines = new ArrayList<>();
+        if (!FileUtil.isFileExists(journalFilePath)) {
+            lines.add(JsonUtil.toCompactJsonString(JsonAdaptedJournalRecord.base(hashOf(snapshotFilePath))));
+        }
+        for (JsonAdaptedJournalRecord record : records) {
+            lines.add(JsonUtil.toCompactJsonString(record));
+        }
+
+        Files.write(journalFilePath, lines, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND, StandardOpenOption.DSYNC);
+        journalRecordCount += records.size();
+    }
+
+    private static List<String> readJournalLines(Path journalFilePath) throws DataLoadingException {
+        try {
+            return Files.readAllLines(journalFilePath, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new DataLoadingException(e);
+        }
+    }
+
+    /**
+     * Returns the SHA-256 hash of the content of {@code filePath}, in hexadecimal.
+     * Unlike its size and modification time, this identifies the content even if the file is rewritten
+     * with the same size within the resolution of the file system's timestamps.
+     */
+    static String hashOf(Path filePath) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance(SNAPSHOT_HASH_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new AssertionError("Every Java platform supports " + SNAPSHOT_HASH_ALGORITHM, e);
+        }
+        try (InputStream in = new DigestInputStream(Files.newInputStream(filePath), digest)) {
+            in.transferTo(OutputStream.nullOutputStream());
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    /**
+     * Returns true if the header in {@code lines} describes the snapshot currently at {@code snapshotFilePath}.
+     * A journal that does not is stale, e.g. the snapshot was rewritten but the journal was not yet removed.
+     *
+     * @throws DataLoadingException if the journal does not start with a valid header.
+     */
+    private static boolean isJournalOf(Path snapshotFilePath, Path journalFilePath, List<String> lines)
+            throws DataLoadingException {
+        if (lines.isEmpty() || !FileUtil.isFileExists(snapshotFilePath)) {
+            return false;
+        }
+
+        try {
+            JsonAdaptedJournalRecord header = JsonUtil.fromJsonString(lines.get(0), JsonAdaptedJournalRecord.class);
+            if (header.getOperation() != JsonAdaptedJournalRecord.Operation.BASE) {
+                throw new IllegalValueException(String.format(MESSAGE_INVALID_JOURNAL_HEADER, journalFilePath));
+            }
+            if (header.hasSnapshotHash()) {
+                return header.isBaseOf(hashOf(snapshotFilePath));
+            }
+            return header.isBaseOf(Files.size(snapshotFilePath),
+                    Files.getLastModifiedTime(snapshotFilePath).toMillis());
+        } catch (IOException | IllegalValueException e) {
+            throw new DataLoadingException(e);
+        }
+    }
+
+    /**
+     * Applies the records after the header in {@code lines} to {@code persons} in order.
+     * An unreadable last line is assumed to be an interrupted append and is skipped.
+     *
+     * @return the number of records applied.
+     */
+    private static int replayJournal(Path journalFilePath, List<String> lines, List<Person> persons)
+            throws DataLoadingException {
+        int applied = 0;
+        for (int i = 1; i < lines.size(); i++) {
+            if (lines.get(i).isBlank()) {
+                continue;
+            }
+
+            JsonAdaptedJournalRecord record;
+            try {
+                record = JsonUtil.fromJsonString(lines.get(i), JsonAdaptedJournalRecord.class);
+            } catch (IOException e) {
+                if (i == lines.size() - 1) {
+                    logger.warning("Skipping incomplete last record of journal " + journalFilePath);
+                    break;
+                }
+                throw new DataLoadingException(e);
+            }
+
+            try {
+                applyRecord(record, i, persons);
+            } catch (IllegalValueException e) {
+                throw new DataLoadingException(e);
+            }
+            applied++;
+        }
+        return applied;
+    }
+
+    private static void applyRecord(JsonAdaptedJournalRecord record, int lineNumber, List<Person> persons)
+            throws IllegalValueException {
+        switch (record.getOperation()) {
+        case INSERT:
+            int insertIndex = record.getIndex();
+            if (insertIndex < 0 || insertIndex > persons.size()) {
+                throw new IllegalValueException(String.format(MESSAGE_INVALID_JOURNAL_INDEX, lineNumber, insertIndex));
+            }
+            persons.add(insertIndex, record.toModelPerson());
+            break;
+        case REMOVE:
+            int removeIndex = record.getIndex();
+            if (removeIndex < 0 || removeIndex >= persons.size()) {
+                throw new IllegalValueException(String.format(MESSAGE_INVALID_JOURNAL_INDEX, lineNumber, removeIndex));
+            }
+            persons.remove(removeIndex);
+            break;
+        case CLEAR:
+            persons.clear();
+            break;
+        default:
+            throw new IllegalValueException(String.format(MESSAGE_UNEXPECTED_JOURNAL_RECORD, lineNumber));
+        }
+    }
+
+    /**
+     * Returns the journal records that turn {@code before} into {@code after}, or {@code Optional.empty()}
+     * if the change cannot be expressed as removals and insertions that keep the remaining persons in order.
+     * Removals are listed in descending index order of {@code before}, followed by insertions in ascending
+     * index order of {@code after}, so that they can be replayed one after another.
+     */
+    static Optional<List<JsonAdaptedJournalRecord>> computeChanges(List<Person> before, List<Person> after) {
+        List<JsonAdaptedJournalRecord> records = new ArrayList<>();
+        if (!before.isEmpty() && after.isEmpty()) {
+            records.add(JsonAdaptedJournalRecord.clear());
+            return Optional.of(records);
+        }
+
+        // Only the persons between the unchanged prefix and suffix need to be compared.
+        int prefix = 0;
+        int maxPrefix = Math.min(before.size(), after.size());
+        while (prefix < maxPrefix && before.get(prefix) == after.get(prefix)) {
+            prefix++;
+        }
+        int suffix = 0;
+        while (suffix < maxPrefix - prefix
+                && before.get(before.size() - 1 - suffix) == after.get(after.size() - 1 - suffix)) {
+            suffix++;
+        }
+        List<Person> beforeMiddle = before.subList(prefix, before.size() - suffix);
+        List<Person> afterMiddle = after.subList(prefix, after.size() - suffix);
+
+        Set<Person> beforeSet = new HashSet<>(beforeMiddle);
+        Set<Person> afterSet = new HashSet<>(afterMiddle);
+
+        List<Person> beforeSurvivors = new ArrayList<>();
+        for (int i = beforeMiddle.size() - 1; i >= 0; i--) {
+            Person person = beforeMiddle.get(i);
+            if (afterSet.contains(person)) {
+                beforeSurvivors.add(person);
+            } else {
+                records.add(JsonAdaptedJournalRecord.remove(prefix + i));
+            }
+        }
+        Collections.reverse(beforeSurvivors);
+
+        List<Person> afterSurvivors = new ArrayList<>();
+        for (int i = 0; i < afterMiddle.size(); i++) {
+            Person person = afterMiddle.get(i);
+            if (beforeSet.contains(person)) {
+                afterSurvivors.add(person);
+            } else {
+                records.add(JsonAdaptedJournalRecord.insert(prefix + i, person));
+            }
+        }
+
+        if (!beforeSurvivors.equals(afterSurvivors)) {
+            return Optional.empty();
+        }
+        return Optional.of(records);
+    }
+}
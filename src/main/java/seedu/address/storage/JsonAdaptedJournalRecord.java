@@ -0,0 +1,151 @@
+package seedu.address.storage;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Person;
+
+/**
+ * Jackson-friendly version of a single mutation recorded in the address book journal.
+ * Each record is written as one line of compact JSON.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+class JsonAdaptedJournalRecord {
+
+    public static final String MESSAGE_UNKNOWN_OPERATION = "Journal record has an unknown operation: %s";
+    public static final String MESSAGE_MISSING_FIELD = "Journal record for %s is missing its %s field!";
+
+    /**
+     * Types of mutation that can be recorded in the journal.
+     */
+    enum Operation {
+        /** Identifies the snapshot file that the following records apply to. */
+        BASE,
+        /** Inserts a person at the given index. */
+        INSERT,
+        /** Removes the person at the given index. */
+        REMOVE,
+        /** Removes all persons. */
+        CLEAR
+    }
+
+    private final String op;
+    private final Integer index;
+    private final JsonAdaptedPerson person;
+    private final String snapshotHash;
+    // Identified the snapshot in journals written before snapshotHash; only read, to replay such journals
+    private final Long snapshotSize;
+    private final Long snapshotModified;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalRecord} with the given record details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalRecord(@JsonProperty("op") String op, @JsonProperty("index") Integer index,
+                                    @JsonProperty("person") JsonAdaptedPerson person,
+                                    @JsonProperty("snapshotHash") String snapshotHash,
+                                    @JsonProperty("snapshotSize") Long snapshotSize,
+                                    @JsonProperty("snapshotModified") Long snapshotModified) {
+        this.op = op;
+        this.index = index;
+        this.person = person;
+        this.snapshotHash = snapshotHash;
+        this.snapshotSize = snapshotSize;
+        this.snapshotModified = snapshotModified;
+    }
+
+    /**
+     * Creates a header record identifying the snapshot file by the {@code hash} of its content.
+     */
+    public static JsonAdaptedJournalRecord base(String hash) {
+        return new JsonAdaptedJournalRecord(Operation.BASE.name(), null, null, hash, null, null);
+    }
+
+    /**
+     * Creates a record that inserts {@code person} at {@code index}.
+     */
+    public static JsonAdaptedJournalRecord insert(int index, Person person) {
+        return new JsonAdaptedJournalRecord(Operation.INSERT.name(), index, new JsonAdaptedPerson(person),
+                null, null, null);
+    }
+
+    /**
+     * Creates a record that removes the person at {@code index}.
+     */
+    public static JsonAdaptedJournalRecord remove(int index) {
+        return new JsonAdaptedJournalRecord(Operation.REMOVE.name(), index, null, null, null, null);
+    }
+
+    /**
+     * Creates a record that removes all persons.
+     */
+    public static JsonAdaptedJournalRecord clear() {
+        return new JsonAdaptedJournalRecord(Operation.CLEAR.name(), null, null, null, null, null);
+    }
+
+    /**
+     * Returns the operation of this record.
+     *
+     * @throws IllegalValueException if the operation is missing or unknown.
+     */
+    public Operation getOperation() throws IllegalValueException {
+        if (op == null) {
+            throw new IllegalValueException(String.format(MESSAGE_UNKNOWN_OPERATION, "null"));
+        }
+        try {
+            return Operation.valueOf(op);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalValueException(String.format(MESSAGE_UNKNOWN_OPERATION, op));
+        }
+    }
+
+    /**
+     * Returns the index this record applies to.
+     *
+     * @throws IllegalValueException if the index is missing.
+     */
+    public int getIndex() throws IllegalValueException {
+        if (index == null) {
+            throw new IllegalValueException(String.format(MESSAGE_MISSING_FIELD, op, "index"));
+        }
+        return index;
+    }
+
+    /**
+     * Returns true if this is a header record identifying its snapshot by a content hash.
+     */
+    public boolean hasSnapshotHash() {
+        return Operation.BASE.name().equals(op) && snapshotHash != null;
+    }
+
+    /**
+     * Returns true if this is a header record describing a snapshot whose content has the given {@code hash}.
+     */
+    public boolean isBaseOf(String hash) {
+        return hasSnapshotHash() && snapshotHash.equals(hash);
+    }
+
+    /**
+     * Returns true if this is a header record, written before snapshots were identified by their content hash,
+     * describing a snapshot of the given {@code size} and last {@code modified} time.
+     */
+    public boolean isBaseOf(long size, long modified) {
+        return Operation.BASE.name().equals(op)
+                && snapshotSize != null && snapshotSize == size
+                && snapshotModified != null && snapshotModified == modified;
+    }
+
+    /**
+     * Converts the person carried by this record into the model's {@code Person} object.
+     *
+     * @throws IllegalValueException if the person is missing or violates any data constraints.
+     */
+    public Person toModelPerson() throws IllegalValueException {
+        if (person == null) {
+            throw new IllegalValueException(String.format(MESSAGE_MISSING_FIELD, op, "person"));
+        }
+        return person.toModelType();
+    }
+}
@@ -62,7 +62,7 @@ public class JsonAdaptedModuleRoleMap {
     public ModuleRoleMap toModelType() throws IllegalValueException {
         HashMap<ModuleCode, RoleType> map = new HashMap<>();
         for (String key : moduleRoleMap.keySet()) {
-            map.put(new ModuleCode(key), ParserUtil.parseRoleType(moduleRoleMap.get(key)));
+            map.put(ModuleCode.of(key), ParserUtil.parseRoleType(moduleRoleMap.get(key)));
         }
 
         return new ModuleRoleMap(map);
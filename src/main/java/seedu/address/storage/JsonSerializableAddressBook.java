@@ -1,5 +1,6 @@
 package seedu.address.storage;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -7,6 +8,10 @@ import java.util.stream.Collectors;
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.AddressBook;
@@ -20,6 +25,13 @@ import seedu.address.model.person.Person;
 class JsonSerializableAddressBook {
 
     public static final String MESSAGE_DUPLICATE_PERSON = "Persons list contains duplicate person(s).";
+    public static final String MESSAGE_NOT_AN_OBJECT = "Address book data must be a JSON object";
+    public static final String MESSAGE_PERSONS_NOT_AN_ARRAY = "Address book persons must be a JSON array";
+
+    /** Number of parsed persons held before they are converted together. */
+    static final int LOAD_BATCH_SIZE = 4096;
+
+    private static final String PERSONS_FIELD = "persons";
 
     private final List<JsonAdaptedPerson> persons = new ArrayList<>();
 
@@ -46,15 +58,63 @@ class JsonSerializableAddressBook {
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public AddressBook toModelType() throws IllegalValueException {
-        AddressBook addressBook = new AddressBook();
-        for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
-            Person person = jsonAdaptedPerson.toModelType();
-            if (addressBook.hasPerson(person)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
+        ParallelPersonLoader loader = new ParallelPersonLoader();
+        loader.load(persons);
+        return loader.toAddressBook();
+    }
+
+    /**
+     * Reads an address book from {@code parser} into the model's {@code AddressBook} object.
+     * Unlike {@link #toModelType()}, persons are converted in batches of {@value #LOAD_BATCH_SIZE} as they are
+     * parsed, so the persons are never all held in their JSON-adapted form at once.
+     *
+     * @throws IOException if the data is not valid JSON in the expected structure.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public static AddressBook readModelType(JsonParser parser) throws IOException, IllegalValueException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, MESSAGE_NOT_AN_OBJECT);
+        }
+
+        ParallelPersonLoader loader = new ParallelPersonLoader();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            JsonToken valueToken = parser.nextToken();
+            if (!PERSONS_FIELD.equals(fieldName)) {
+                parser.skipChildren();
+                continue;
+            }
+            if (valueToken != JsonToken.START_ARRAY) {
+                throw new JsonParseException(parser, MESSAGE_PERSONS_NOT_AN_ARRAY);
+            }
+            List<JsonAdaptedPerson> batch = new ArrayList<>(LOAD_BATCH_SIZE);
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                batch.add(parser.readValueAs(JsonAdaptedPerson.class));
+                if (batch.size() == LOAD_BATCH_SIZE) {
+                    loader.load(batch);
+                    batch.clear();
+                }
             }
-            addressBook.addPerson(person);
+            loader.load(batch);
+        }
+        return loader.toAddressBook();
+    }
+
+    /**
+     * Writes the persons of {@code source} to {@code generator} in the same structure as this class.
+     * Each person is adapted and written in turn, so the persons are never all held in their
+     * JSON-adapted form at once.
+     *
+     * @throws IOException if there was an error writing to the generator.
+     */
+    public static void writeModelType(ReadOnlyAddressBook source, JsonGenerator generator) throws IOException {
+        generator.writeStartObject();
+        generator.writeArrayFieldStart(PERSONS_FIELD);
+        for (Person person : source.getPersonList()) {
+            generator.writeObject(new JsonAdaptedPerson(person));
         }
-        return addressBook;
+        generator.writeEndArray();
+        generator.writeEndObject();
     }
 
 }
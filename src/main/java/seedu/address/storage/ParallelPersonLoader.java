@@ -0,0 +1,114 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+
+/**
+ * Converts {@code JsonAdaptedPerson}s into the model's {@code Person}s, validating them in parallel.
+ *
+ * Persons are added in batches. Each batch is converted in fork-join chunks, after which the results are
+ * checked in order, so that the error reported is always the one for the first bad person in the input,
+ * exactly as if the persons had been converted one at a time.
+ */
+class ParallelPersonLoader {
+
+    /** Batches no larger than this are converted by a single task. */
+    static final int CHUNK_SIZE = 256;
+
+    private final List<Person> persons = new ArrayList<>();
+    private final Set<Phone> phones = new HashSet<>();
+    private final Set<Email> emails = new HashSet<>();
+
+    /**
+     * Converts {@code adaptedPersons} and appends them to the persons loaded so far.
+     *
+     * @throws IllegalValueException if any person violates data constraints, or is the same person
+     *     as one loaded before it.
+     */
+    public void load(List<JsonAdaptedPerson> adaptedPersons) throws IllegalValueException {
+        int size = adaptedPersons.size();
+        Person[] converted = new Person[size];
+        Exception[] failures = new Exception[size];
+        ForkJoinPool.commonPool().invoke(new ConversionTask(adaptedPersons, converted, failures, 0, size));
+
+        for (int i = 0; i < size; i++) {
+            rethrow(failures[i]);
+            Person person = converted[i];
+            // Same identity check as Person#isSamePerson, against every person loaded before this one
+            boolean isDuplicate = person.getPhone().map(phone -> !phones.add(phone)).orElse(false)
+                    | person.getEmail().map(email -> !emails.add(email)).orElse(false);
+            if (isDuplicate) {
+                throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+            }
+            persons.add(person);
+        }
+    }
+
+    /**
+     * Returns a new {@code AddressBook} containing every person loaded so far, in the order they were loaded.
+     */
+    public AddressBook toAddressBook() {
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(persons);
+        return addressBook;
+    }
+
+    private static void rethrow(Exception failure) throws IllegalValueException {
+        if (failure == null) {
+            return;
+        }
+        if (failure instanceof IllegalValueException) {
+            throw (IllegalValueException) failure;
+        }
+        throw (RuntimeException) failure;
+    }
+
+    /**
+     * Converts the persons in {@code [from, to)}, splitting the range in half until it is small enough.
+     * Each person's result or failure is stored at its own index.
+     */
+    private static class ConversionTask extends RecursiveAction {
+        private final List<JsonAdaptedPerson> adaptedPersons;
+        private final Person[] converted;
+        private final Exception[] failures;
+        private final int from;
+        private final int to;
+
+        ConversionTask(List<JsonAdaptedPerson> adaptedPersons, Person[] converted, Exception[] failures,
+                       int from, int to) {
+            this.adaptedPersons = adaptedPersons;
+            this.converted = converted;
+            this.failures = failures;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= CHUNK_SIZE) {
+                for (int i = from; i < to; i++) {
+                    try {
+                        converted[i] = adaptedPersons.get(i).toModelType();
+                    } catch (IllegalValueException | RuntimeException e) {
+                        failures[i] = e;
+                    }
+                }
+                return;
+            }
+
+            int middle = (from + to) >>> 1;
+            invokeAll(new ConversionTask(adaptedPersons, converted, failures, from, middle),
+                    new ConversionTask(adaptedPersons, converted, failures, middle, to));
+        }
+    }
+}
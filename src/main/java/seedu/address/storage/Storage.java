@@ -29,4 +29,21 @@ public interface Storage extends AddressBookStorage, UserPrefsStorage {
     @Override
     void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException;
 
+    /**
+     * Writes out any address book changes that have been accepted but not yet written, and waits for them.
+     * Storages that write synchronously have nothing to flush.
+     *
+     * @throws IOException if there was any problem writing the pending changes.
+     */
+    default void flush() throws IOException {}
+
+    /**
+     * Returns the failure of an address book write made in the background that has not been reported yet,
+     * and forgets it so that it is only reported once.
+     * Storages that write synchronously report their failures when saving, and have none to return.
+     */
+    default Optional<IOException> takeBackgroundSaveFailure() {
+        return Optional.empty();
+    }
+
 }
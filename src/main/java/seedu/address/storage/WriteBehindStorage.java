@@ -0,0 +1,193 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.UserPrefs;
+
+/**
+ * A {@code Storage} that saves the address book in the background on behalf of another {@code Storage}.
+ *
+ * Saving an address book whose modification count has not changed since it was last saved is skipped.
+ * Otherwise, its {@link ReadOnlyAddressBook#getSnapshot() snapshot} is queued, which takes constant time for the
+ * model's address book, and written after a short delay, so a burst of changes results in a single write of the
+ * latest state. A failed background write is retried with the next save, and is
+ * reported by {@link #takeBackgroundSaveFailure()} or the next {@link #flush()}.
+ */
+public class WriteBehindStorage implements Storage {
+
+    public static final long DEFAULT_FLUSH_DELAY_MILLIS = 300;
+
+    private static final Logger logger = LogsCenter.getLogger(WriteBehindStorage.class);
+
+    private final Storage storage;
+    private final long flushDelayMillis;
+    private final ScheduledExecutorService executor;
+
+    private ReadOnlyAddressBook lastAcceptedAddressBook;
+    private long lastAcceptedModificationCount;
+    private ReadOnlyAddressBook pendingAddressBook;
+    private ScheduledFuture<?> scheduledFlush;
+    private IOException flushFailure;
+
+    /**
+     * Creates a {@code WriteBehindStorage} that writes through {@code storage} after the default delay.
+     */
+    public WriteBehindStorage(Storage storage) {
+        this(storage, DEFAULT_FLUSH_DELAY_MILLIS);
+    }
+
+    /**
+     * Creates a {@code WriteBehindStorage} that writes through {@code storage}
+     * {@code flushDelayMillis} milliseconds after the first unsaved change.
+     */
+    public WriteBehindStorage(Storage storage, long flushDelayMillis) {
+        requireNonNull(storage);
+        assert flushDelayMillis >= 0 : "Flush delay cannot be negative";
+        this.storage = storage;
+        this.flushDelayMillis = flushDelayMillis;
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "address-book-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    // ================ UserPrefs methods ==============================
+
+    @Override
+    public Path getUserPrefsFilePath() {
+        return storage.getUserPrefsFilePath();
+    }
+
+    @Override
+    public Optional<UserPrefs> readUserPrefs() throws DataLoadingException {
+        return storage.readUserPrefs();
+    }
+
+    @Override
+    public void saveUserPrefs(ReadOnlyUserPrefs userPrefs) throws IOException {
+        storage.saveUserPrefs(userPrefs);
+    }
+
+    // ================ AddressBook methods ==============================
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return storage.getAddressBookFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return storage.readAddressBook();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        return storage.readAddressBook(filePath);
+    }
+
+    /**
+     * Queues {@code addressBook} to be written in the background, unless it is unchanged since the last call.
+     * A queued write that failed earlier is retried, even if {@code addressBook} is unchanged.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+
+        synchronized (this) {
+            boolean isClean = addressBook == lastAcceptedAddressBook
+                    && addressBook.getModificationCount() == lastAcceptedModificationCount;
+            if (!isClean) {
+                lastAcceptedAddressBook = addressBook;
+                lastAcceptedModificationCount = addressBook.getModificationCount();
+                pendingAddressBook = addressBook.getSnapshot();
+            }
+            if (pendingAddressBook != null && scheduledFlush == null) {
+                scheduledFlush = executor.schedule(this::writePending, flushDelayMillis, TimeUnit.MILLISECONDS);
+            }
+        }
+    }
+
+    @Override
+    public synchronized Optional<IOException> takeBackgroundSaveFailure() {
+        Optional<IOException> failure = Optional.ofNullable(flushFailure);
+        flushFailure = null;
+        return failure;
+    }
+
+    /**
+     * Writes {@code addressBook} to {@code filePath} immediately, bypassing the queue.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        storage.saveAddressBook(addressBook, filePath);
+    }
+
+    @Override
+    public void flush() throws IOException {
+        try {
+            executor.submit(this::writePending).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while saving data", e);
+        } catch (ExecutionException e) {
+            throw new IOException(e.getCause());
+        }
+
+        IOException failure;
+        synchronized (this) {
+            failure = flushFailure;
+            flushFailure = null;
+        }
+        if (failure != null) {
+            throw failure;
+        }
+        storage.flush();
+    }
+
+    /**
+     * Writes the latest queued address book, if any. Only runs on the background thread.
+     */
+    private void writePending() {
+        ReadOnlyAddressBook toWrite;
+        synchronized (this) {
+            toWrite = pendingAddressBook;
+            pendingAddressBook = null;
+            scheduledFlush = null;
+        }
+        if (toWrite == null) {
+            return;
+        }
+
+        try {
+            logger.fine("Writing queued address book to " + storage.getAddressBookFilePath());
+            storage.saveAddressBook(toWrite);
+            synchronized (this) {
+                // an earlier failure that was not reported yet has been recovered from
+                flushFailure = null;
+            }
+        } catch (IOException e) {
+            logger.warning("Failed to save address book in the background: " + e.getMessage());
+            synchronized (this) {
+                if (pendingAddressBook == null) {
+                    pendingAddressBook = toWrite;
+                }
+                flushFailure = e;
+            }
+        }
+    }
+}
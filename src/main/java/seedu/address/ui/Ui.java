@@ -10,4 +10,7 @@ public interface Ui {
     /** Starts the UI (and the App).  */
     void start(Stage primaryStage);
 
+    /** Shows an error dialog with {@code title} and the details of {@code e}, and waits until it is closed. */
+    void showErrorDialogAndWait(String title, Throwable e);
+
 }
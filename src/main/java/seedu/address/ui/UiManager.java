@@ -58,6 +58,15 @@ public class UiManager implements Ui {
         showAlertDialogAndWait(mainWindow.getPrimaryStage(), type, title, headerText, contentText);
     }
 
+    @Override
+    public void showErrorDialogAndWait(String title, Throwable e) {
+        // the main window may already be closed, e.g. when the app is stopping
+        Stage owner = mainWindow == null || !mainWindow.getPrimaryStage().isShowing()
+                ? null
+                : mainWindow.getPrimaryStage();
+        showAlertDialogAndWait(owner, Alert.AlertType.ERROR, title, e.getMessage(), e.toString());
+    }
+
     /**
      * Shows an alert dialog on {@code owner} with the given parameters.
      * This method only returns after the user has closed the alert dialog.
@@ -0,0 +1,21 @@
+package seedu.address.commons.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class HistorySettingsTest {
+    @Test
+    public void constructor_invalidLimits_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new HistorySettings(0, 1));
+        assertThrows(IllegalArgumentException.class, () -> new HistorySettings(1, -1));
+    }
+
+    @Test
+    public void toStringMethod() {
+        HistorySettings historySettings = new HistorySettings(5, 1024);
+        String expected = HistorySettings.class.getCanonicalName() + "{maxStates=5, maxBytes=1024}";
+        assertEquals(expected, historySettings.toString());
+    }
+}
@@ -0,0 +1,163 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.junit.jupiter.api.Test;
+
+public class CompressedBitmapTest {
+
+    // More values in one chunk than it holds as an array
+    private static final int DENSE_CHUNK_SIZE = 5000;
+
+    @Test
+    public void add_negativeValue_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new CompressedBitmap().add(-1));
+    }
+
+    @Test
+    public void contains_valuesAdded_returnsTrueOnlyForAddedValues() {
+        CompressedBitmap bitmap = CompressedBitmap.of(3, 70_000, Integer.MAX_VALUE, 0);
+        assertTrue(bitmap.contains(0));
+        assertTrue(bitmap.contains(3));
+        assertTrue(bitmap.contains(70_000));
+        assertTrue(bitmap.contains(Integer.MAX_VALUE));
+        assertFalse(bitmap.contains(1));
+        assertFalse(bitmap.contains(3 + 65_536));
+        assertFalse(bitmap.contains(-1));
+        assertArrayEquals(new int[] {0, 3, 70_000, Integer.MAX_VALUE}, bitmap.toArray());
+    }
+
+    @Test
+    public void add_duplicateValue_ignored() {
+        CompressedBitmap bitmap = CompressedBitmap.of(5, 5, 5);
+        assertEquals(1, bitmap.getCardinality());
+    }
+
+    @Test
+    public void remove_allValues_becomesEmpty() {
+        CompressedBitmap bitmap = CompressedBitmap.of(1, 100_000);
+        bitmap.remove(1);
+        bitmap.remove(2);
+        bitmap.remove(-1);
+        assertFalse(bitmap.contains(1));
+        assertFalse(bitmap.isEmpty());
+        bitmap.remove(100_000);
+        assertTrue(bitmap.isEmpty());
+        assertEquals(new CompressedBitmap(), bitmap);
+    }
+
+    @Test
+    public void add_denseChunk_allValuesKept() {
+        CompressedBitmap bitmap = new CompressedBitmap();
+        for (int i = 0; i < DENSE_CHUNK_SIZE; i++) {
+            bitmap.add(i * 2);
+        }
+        assertEquals(DENSE_CHUNK_SIZE, bitmap.getCardinality());
+        assertTrue(bitmap.contains(2 * (DENSE_CHUNK_SIZE - 1)));
+        assertFalse(bitmap.contains(1));
+
+        for (int i = 0; i < DENSE_CHUNK_SIZE; i += 2) {
+            bitmap.remove(i * 2);
+        }
+        assertEquals(DENSE_CHUNK_SIZE / 2, bitmap.getCardinality());
+        assertFalse(bitmap.contains(0));
+        assertTrue(bitmap.contains(2));
+    }
+
+    @Test
+    public void andOrAndNot_sparseAndDenseChunks_matchSetOperations() {
+        Random random = new Random(2103);
+        for (int round = 0; round < 20; round++) {
+            int range = round % 2 == 0 ? 200_000 : 10_000;
+            Set<Integer> first = randomValues(random, range, random.nextInt(DENSE_CHUNK_SIZE * 2));
+            Set<Integer> second = randomValues(random, range, random.nextInt(DENSE_CHUNK_SIZE * 2));
+            CompressedBitmap firstBitmap = toBitmap(first);
+            CompressedBitmap secondBitmap = toBitmap(second);
+
+            Set<Integer> intersection = new TreeSet<>(first);
+            intersection.retainAll(second);
+            Set<Integer> union = new TreeSet<>(first);
+            union.addAll(second);
+            Set<Integer> difference = new TreeSet<>(first);
+            difference.removeAll(second);
+            assertEquals(toBitmap(intersection), firstBitmap.and(secondBitmap));
+            assertEquals(toBitmap(difference), firstBitmap.andNot(secondBitmap));
+            assertEquals(toBitmap(union), firstBitmap.or(secondBitmap));
+            assertEquals(union.size(), firstBitmap.or(secondBitmap).getCardinality());
+
+            // the operands are unchanged
+            assertEquals(toBitmap(first), firstBitmap);
+            assertEquals(toBitmap(second), secondBitmap);
+        }
+    }
+
+    @Test
+    public void copy_modifyCopy_originalUnchanged() {
+        CompressedBitmap bitmap = CompressedBitmap.of(1, 2);
+        CompressedBitmap copy = bitmap.copy();
+        copy.add(3);
+        copy.remove(1);
+        assertEquals(CompressedBitmap.of(1, 2), bitmap);
+        assertEquals(CompressedBitmap.of(2, 3), copy);
+    }
+
+    @Test
+    public void equals() {
+        CompressedBitmap bitmap = CompressedBitmap.of(1, 2);
+
+        // same values -> returns true
+        assertTrue(bitmap.equals(CompressedBitmap.of(2, 1)));
+
+        // same object -> returns true
+        assertTrue(bitmap.equals(bitmap));
+
+        // null -> returns false
+        assertFalse(bitmap.equals(null));
+
+        // different types -> returns false
+        assertFalse(bitmap.equals(5.0f));
+
+        // different values -> returns false
+        assertFalse(bitmap.equals(CompressedBitmap.of(1, 3)));
+
+        // same values in a different form -> returns true
+        CompressedBitmap denseBitmap = new CompressedBitmap();
+        for (int i = 0; i < DENSE_CHUNK_SIZE; i++) {
+            denseBitmap.add(i);
+        }
+        for (int i = 3; i < DENSE_CHUNK_SIZE; i++) {
+            denseBitmap.remove(i);
+        }
+        assertEquals(CompressedBitmap.of(0, 1, 2), denseBitmap);
+        assertEquals(CompressedBitmap.of(0, 1, 2).hashCode(), denseBitmap.hashCode());
+        assertNotEquals(bitmap, denseBitmap);
+    }
+
+    @Test
+    public void toStringMethod() {
+        assertEquals("[1, 2, 65536]", CompressedBitmap.of(65536, 2, 1).toString());
+    }
+
+    private static Set<Integer> randomValues(Random random, int range, int count) {
+        Set<Integer> values = new TreeSet<>();
+        for (int i = 0; i < count; i++) {
+            values.add(random.nextInt(range));
+        }
+        return values;
+    }
+
+    private static CompressedBitmap toBitmap(Set<Integer> values) {
+        CompressedBitmap bitmap = new CompressedBitmap();
+        values.forEach(bitmap::add);
+        return bitmap;
+    }
+}
@@ -0,0 +1,99 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TestUtil.getBytesAllocated;
+
+import org.junit.jupiter.api.Test;
+
+public class KeywordMatcherTest {
+
+    private static final int REPETITIONS = 10_000;
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new KeywordMatcher(null));
+    }
+
+    @Test
+    public void constructor_blankKeyword_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, KeywordMatcher.MESSAGE_CONSTRAINTS, () -> new KeywordMatcher(""));
+        assertThrows(IllegalArgumentException.class, () -> new KeywordMatcher(" \t "));
+    }
+
+    @Test
+    public void getKeyword() {
+        assertEquals("Alice Bob", new KeywordMatcher("  Alice Bob ").getKeyword());
+    }
+
+    @Test
+    public void foldCase_string_foldsEachCharacter() {
+        assertThrows(NullPointerException.class, () -> KeywordMatcher.foldCase((String) null));
+        assertEquals("ivan ilyich", KeywordMatcher.foldCase("IVAN Ilyich"));
+        assertEquals(KeywordMatcher.foldCase("STRASSE"), KeywordMatcher.foldCase("strasse"));
+
+        // folding keeps the length, unlike String#toLowerCase for the dotted capital I
+        assertEquals(1, KeywordMatcher.foldCase("\u0130").length());
+    }
+
+    @Test
+    public void isSubstringOf() {
+        KeywordMatcher matcher = new KeywordMatcher(" mEtEr ");
+        assertThrows(NullPointerException.class, () -> matcher.isSubstringOf(null));
+
+        // keyword longer than or absent from sentence
+        assertFalse(matcher.isSubstringOf(""));
+        assertFalse(matcher.isSubstringOf("met"));
+        assertFalse(matcher.isSubstringOf("meteor"));
+
+        // keyword at start, middle and end of sentence
+        assertTrue(matcher.isSubstringOf("Meter"));
+        assertTrue(matcher.isSubstringOf("PetER ChoO METERS"));
+        assertTrue(matcher.isSubstringOf("kilometer"));
+
+        // single character keyword
+        assertTrue(new KeywordMatcher("K").isSubstringOf("kilo"));
+        assertFalse(new KeywordMatcher("K").isSubstringOf("mile"));
+    }
+
+    @Test
+    public void isWordOf() {
+        KeywordMatcher matcher = new KeywordMatcher("bBb");
+        assertThrows(NullPointerException.class, () -> matcher.isWordOf(null));
+        assertThrows(IllegalArgumentException.class, StringUtil.MESSAGE_NOT_SINGLE_WORD, ()
+            -> new KeywordMatcher("aaa bbb").isWordOf("aaa bbb"));
+
+        assertFalse(matcher.isWordOf(""));
+        assertFalse(matcher.isWordOf("aaa bbbb ccc"));
+        assertFalse(matcher.isWordOf("aaabbb"));
+
+        assertTrue(matcher.isWordOf("BBB"));
+        assertTrue(matcher.isWordOf("  aaa\tBbb\nccc  "));
+        assertTrue(matcher.isWordOf("aaa bbbb bbb"));
+    }
+
+    @Test
+    public void isSubstringOf_repeatedCalls_noAllocation() {
+        KeywordMatcher matcher = new KeywordMatcher("pauline");
+        long bytesAllocated = getBytesAllocated(() -> {
+            matcher.isSubstringOf("Alice Pauline");
+            matcher.isSubstringOf("Benson Meier");
+        }, REPETITIONS);
+        assumeTrue(bytesAllocated >= 0, "Allocations cannot be measured on this JVM");
+        assertTrue(bytesAllocated < REPETITIONS, bytesAllocated + " bytes allocated");
+    }
+
+    @Test
+    public void isWordOf_repeatedCalls_noAllocation() {
+        KeywordMatcher matcher = new KeywordMatcher("meier");
+        long bytesAllocated = getBytesAllocated(() -> {
+            matcher.isWordOf("Alice Pauline");
+            matcher.isWordOf("Benson Meier");
+        }, REPETITIONS);
+        assumeTrue(bytesAllocated >= 0, "Allocations cannot be measured on this JVM");
+        assertTrue(bytesAllocated < REPETITIONS, bytesAllocated + " bytes allocated");
+    }
+}
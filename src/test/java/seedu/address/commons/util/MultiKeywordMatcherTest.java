@@ -0,0 +1,126 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TestUtil.getBytesAllocated;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class MultiKeywordMatcherTest {
+
+    private static final int REPETITIONS = 10_000;
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new MultiKeywordMatcher(null));
+        assertThrows(NullPointerException.class, () -> new MultiKeywordMatcher(Arrays.asList("abc", null)));
+    }
+
+    @Test
+    public void constructor_blankKeyword_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new MultiKeywordMatcher(List.of("abc", "  ")));
+    }
+
+    @Test
+    public void getKeywords_returnsTrimmedKeywordsInOrder() {
+        assertEquals(List.of("she", "He"), new MultiKeywordMatcher(List.of(" she", "He ")).getKeywords());
+    }
+
+    @Test
+    public void getNormalizedKeywords_returnsFoldedKeywordsSortedWithoutDuplicates() {
+        assertEquals(List.of("he", "she"),
+                new MultiKeywordMatcher(List.of(" she", "He ", "SHE")).getNormalizedKeywords());
+    }
+
+    @Test
+    public void isAnyFoundIn_noKeywords_returnsFalse() {
+        MultiKeywordMatcher matcher = new MultiKeywordMatcher(Collections.emptyList());
+        assertFalse(matcher.isAnyFoundIn(""));
+        assertFalse(matcher.isAnyFoundIn("anything"));
+    }
+
+    @Test
+    public void isAnyFoundIn() {
+        MultiKeywordMatcher matcher = new MultiKeywordMatcher(List.of("he", "SHE", "his", "hers"));
+        assertThrows(NullPointerException.class, () -> matcher.isAnyFoundIn(null));
+
+        assertFalse(matcher.isAnyFoundIn(""));
+        assertFalse(matcher.isAnyFoundIn("h"));
+        assertFalse(matcher.isAnyFoundIn("shi hi s"));
+
+        assertTrue(matcher.isAnyFoundIn("He"));
+        assertTrue(matcher.isAnyFoundIn("uSHErs"));
+        assertTrue(matcher.isAnyFoundIn("this"));
+    }
+
+    @Test
+    public void isAnyFoundIn_keywordFoundAfterFailure_returnsTrue() {
+        // reading "abcx" fails out of "abcd" into the middle of "bcx"
+        MultiKeywordMatcher matcher = new MultiKeywordMatcher(List.of("abcd", "bcx"));
+        assertTrue(matcher.isAnyFoundIn("zabcx"));
+        assertFalse(matcher.isAnyFoundIn("abcbc"));
+
+        // a keyword ending inside a longer, unfinished keyword
+        matcher = new MultiKeywordMatcher(List.of("pauline", "au"));
+        assertTrue(matcher.isAnyFoundIn("Paul"));
+    }
+
+    @Test
+    public void isAnyFoundIn_randomSentences_sameAsKeywordMatcher() {
+        Random random = new Random(2103);
+        for (int trial = 0; trial < 500; trial++) {
+            List<String> keywords = new ArrayList<>();
+            for (int i = 0; i < 1 + random.nextInt(5); i++) {
+                keywords.add(randomString(random, 1 + random.nextInt(3)));
+            }
+            MultiKeywordMatcher matcher = new MultiKeywordMatcher(keywords);
+            String sentence = randomString(random, random.nextInt(12));
+
+            boolean isExpected = keywords.stream().anyMatch(keyword -> StringUtil.containsSubstringIgnoreCase(
+                    sentence, keyword));
+            assertEquals(isExpected, matcher.isAnyFoundIn(sentence), keywords + " in " + sentence);
+        }
+    }
+
+    @Test
+    public void isAnyFoundIn_repeatedCalls_noAllocation() {
+        MultiKeywordMatcher matcher = new MultiKeywordMatcher(List.of("carol", "meier", "pauline", "kurz"));
+        long bytesAllocated = getBytesAllocated(() -> {
+            matcher.isAnyFoundIn("Alice Pauline");
+            matcher.isAnyFoundIn("Daniel Tan");
+        }, REPETITIONS);
+        assumeTrue(bytesAllocated >= 0, "Allocations cannot be measured on this JVM");
+        assertTrue(bytesAllocated < REPETITIONS, bytesAllocated + " bytes allocated");
+    }
+
+    @Test
+    public void equals() {
+        MultiKeywordMatcher matcher = new MultiKeywordMatcher(List.of("abc", "def"));
+
+        assertTrue(matcher.equals(matcher));
+        assertTrue(matcher.equals(new MultiKeywordMatcher(List.of(" abc", "def "))));
+
+        assertFalse(matcher.equals(null));
+        assertFalse(matcher.equals(5));
+        assertFalse(matcher.equals(new MultiKeywordMatcher(List.of("def", "abc"))));
+    }
+
+    private static String randomString(Random random, int length) {
+        // a small alphabet with both cases, so that keywords often overlap
+        String alphabet = "abAB";
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < length; i++) {
+            builder.append(alphabet.charAt(random.nextInt(alphabet.length())));
+        }
+        return builder.toString();
+    }
+}
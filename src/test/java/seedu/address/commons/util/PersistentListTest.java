@@ -0,0 +1,103 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class PersistentListTest {
+
+    @Test
+    public void of_elements_sameOrder() {
+        List<Integer> elements = Arrays.asList(5, 3, 8, 1, 9, 2);
+        PersistentList<Integer> list = PersistentList.of(elements);
+        assertEquals(elements, list.asList());
+        assertEquals(6, list.size());
+        assertEquals(8, list.get(2));
+        assertEquals(3, list.indexOf(1));
+        assertEquals(-1, list.indexOf(7));
+    }
+
+    @Test
+    public void of_nullElement_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> PersistentList.of(Arrays.asList(1, null)));
+    }
+
+    @Test
+    public void updates_randomOperations_matchArrayList() {
+        Random random = new Random(2103);
+        List<Integer> expected = new ArrayList<>();
+        PersistentList<Integer> list = PersistentList.empty();
+        for (int i = 0; i < 2000; i++) {
+            int operation = random.nextInt(4);
+            if (expected.isEmpty() || operation <= 1) {
+                int index = random.nextInt(expected.size() + 1);
+                expected.add(index, i);
+                list = list.add(index, i);
+            } else if (operation == 2) {
+                int index = random.nextInt(expected.size());
+                expected.remove(index);
+                list = list.remove(index);
+            } else {
+                int index = random.nextInt(expected.size());
+                expected.set(index, -i);
+                list = list.set(index, -i);
+            }
+        }
+        assertEquals(expected, list.asList());
+        assertEquals(expected.hashCode(), list.hashCode());
+    }
+
+    @Test
+    public void updates_originalUnchanged() {
+        PersistentList<String> original = PersistentList.of(Arrays.asList("a", "b", "c"));
+        PersistentList<String> appended = original.add("d");
+        PersistentList<String> removed = original.remove(0);
+        PersistentList<String> replaced = original.set(1, "x");
+
+        assertEquals(Arrays.asList("a", "b", "c"), original.asList());
+        assertEquals(Arrays.asList("a", "b", "c", "d"), appended.asList());
+        assertEquals(Arrays.asList("b", "c"), removed.asList());
+        assertEquals(Arrays.asList("a", "x", "c"), replaced.asList());
+    }
+
+    @Test
+    public void get_invalidIndex_throwsIndexOutOfBoundsException() {
+        PersistentList<String> list = PersistentList.of(Arrays.asList("a", "b"));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(2));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.remove(-1));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.add(3, "c"));
+    }
+
+    @Test
+    public void asList_modification_throwsUnsupportedOperationException() {
+        List<String> view = PersistentList.of(Arrays.asList("a")).asList();
+        assertThrows(UnsupportedOperationException.class, () -> view.add("b"));
+    }
+
+    @Test
+    public void equals() {
+        PersistentList<String> list = PersistentList.of(Arrays.asList("a", "b"));
+
+        // same values -> returns true
+        assertTrue(list.equals(PersistentList.<String>empty().add("a").add("b")));
+
+        // same object -> returns true
+        assertTrue(list.equals(list));
+
+        // null -> returns false
+        assertFalse(list.equals(null));
+
+        // different values -> returns false
+        assertNotEquals(list, list.set(0, "c"));
+        assertNotEquals(list, list.add("c"));
+    }
+}
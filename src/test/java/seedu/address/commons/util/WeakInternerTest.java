@@ -0,0 +1,35 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class WeakInternerTest {
+
+    private final WeakInterner<Value> interner = new WeakInterner<>(Value::new, value -> value.key);
+
+    @Test
+    public void intern_nullKey_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> interner.intern(null));
+    }
+
+    @Test
+    public void intern_sameKey_returnsSameValue() {
+        Value value = interner.intern("value");
+        assertSame(value, interner.intern(new String("value")));
+        Value other = interner.intern("other");
+        assertEquals(2, interner.size());
+        assertNotSame(value, other);
+    }
+
+    private static class Value {
+        private final String key;
+
+        Value(String key) {
+            this.key = key;
+        }
+    }
+}
@@ -18,11 +18,13 @@ import seedu.address.commons.core.GuiSettings;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookDiff;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.history.HistoryCommand;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonIndex;
 import seedu.address.testutil.PersonBuilder;
 
 public class AddCommandTest {
@@ -104,7 +106,17 @@ public class AddCommandTest {
         }
 
         @Override
-        public AddressBook getVersionedAddressBook(int index) {
+        public ReadOnlyAddressBook getVersionedAddressBook(int index) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public AddressBookDiff getAddressBookChanges(int fromIndex, int toIndex) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public PersonIndex getPersonIndex() {
             throw new AssertionError("This method should not be called.");
         }
 
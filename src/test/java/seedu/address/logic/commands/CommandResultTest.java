@@ -8,6 +8,12 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import org.junit.jupiter.api.Test;
 
 public class CommandResultTest {
+    @Test
+    public void withNotice() {
+        CommandResult commandResult = new CommandResult("feedback", true, false);
+        assertEquals(new CommandResult("feedback\nnotice", true, false), commandResult.withNotice("notice"));
+    }
+
     @Test
     public void equals() {
         CommandResult commandResult = new CommandResult("feedback");
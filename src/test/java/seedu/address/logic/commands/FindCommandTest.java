@@ -23,16 +23,21 @@ import java.util.function.Predicate;
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.Messages;
+import seedu.address.logic.parser.FindCommandParser;
 import seedu.address.logic.parser.ParserUtil;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.person.InFilteredListPredicate;
+import seedu.address.model.person.ModuleCode;
 import seedu.address.model.person.ModuleRoleContainsKeywordsPredicate;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.QueryResultCache;
+import seedu.address.model.person.RoleType;
 import seedu.address.model.person.TagContainsKeywordsPredicate;
+import seedu.address.testutil.PersonBuilder;
 
 /**
  * Contains integration tests (interaction with the Model) for {@code FindCommand}.
@@ -184,6 +189,64 @@ public class FindCommandTest {
         assertEquals(Arrays.asList(), model.getFilteredPersonList());
     }
 
+    @Test
+    public void execute_moduleRoleKeywordsThenPersonEdited_editedPersonTested() throws ParseException {
+        ModuleRoleContainsKeywordsPredicate moduleRolePredicate = prepareModuleRolePredicate("CS1101S");
+        new FindCommand(List.of(moduleRolePredicate)).execute(model);
+        assertEquals(Arrays.asList(ALICE, CARL, DANIEL, ELLE, FIONA, GEORGE), model.getFilteredPersonList());
+
+        // persons changed after the search are tested against the predicates rather than the looked up persons
+        Person editedBenson = new PersonBuilder(BENSON)
+                .withModuleRoleMap(new ModuleCode("CS1101S"), RoleType.STUDENT).build();
+        model.setPerson(BENSON, editedBenson);
+        assertEquals(Arrays.asList(ALICE, editedBenson, CARL, DANIEL, ELLE, FIONA, GEORGE),
+                model.getFilteredPersonList());
+        model.setPerson(CARL, new PersonBuilder(CARL).withEmptyModuleRoleMap().build());
+        assertEquals(Arrays.asList(ALICE, editedBenson, DANIEL, ELLE, FIONA, GEORGE), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_booleanQuery_multiplePersonsFound() throws ParseException {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 2,
+                "((Meier) OR (Kurz) OR (Meyer)) AND NOT (friends)");
+        FindCommand command = new FindCommandParser().parse(" (n/Meier OR n/Kurz OR n/Meyer) AND NOT t/friends");
+        expectedModel.updateFilteredPersonList(person -> person == CARL || person == ELLE);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(CARL, ELLE), model.getFilteredPersonList());
+
+        // chained
+        String expectedMessage2 = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 1,
+                Messages.MESSAGE_CHAINED_FIND_PREFIX + "NOT (Kurz)");
+        FindCommand command2 = new FindCommandParser().parse(" chained NOT n/Kurz");
+        expectedModel.updateFilteredPersonList(person -> person == ELLE);
+        assertCommandSuccess(command2, model, expectedMessage2, expectedModel);
+        assertEquals(Arrays.asList(ELLE), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_repeatedFindAfterChanges_cachedPersonsKeptUpToDate() throws ParseException {
+        QueryResultCache queryResultCache = model.getPersonIndex().getQueryResultCache();
+        new FindCommandParser().parse(" n/Meier n/Kurz").execute(model);
+        assertEquals(Arrays.asList(BENSON, CARL, DANIEL), model.getFilteredPersonList());
+        assertEquals(1, queryResultCache.getMissCount());
+
+        Person kurzCousin = new PersonBuilder().withName("Karl Kurz").withPhone("91112222").build();
+        model.addPerson(kurzCousin);
+        model.deletePerson(BENSON);
+        model.updateFilteredPersonList(Model.PREDICATE_SHOW_ALL_PERSONS);
+
+        // same keywords in a different order and case -> found in the cache
+        new FindCommandParser().parse(" n/kurz n/MEIER").execute(model);
+        assertEquals(Arrays.asList(CARL, DANIEL, kurzCousin), model.getFilteredPersonList());
+        assertEquals(1, queryResultCache.getHitCount());
+        assertEquals(1, queryResultCache.size());
+
+        // chained finds depend on the displayed persons -> not cached
+        new FindCommandParser().parse(" chained n/Kurz").execute(model);
+        assertEquals(Arrays.asList(CARL, kurzCousin), model.getFilteredPersonList());
+        assertEquals(1, queryResultCache.size());
+    }
+
     @Test
     public void executeTwice_nameAndModuleRoleKeywordsChained_multiplePersonsFound() throws ParseException {
         String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 2,
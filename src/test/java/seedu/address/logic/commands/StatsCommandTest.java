@@ -0,0 +1,37 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.parser.FindCommandParser;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.QueryResultCache;
+
+public class StatsCommandTest {
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private final Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_noFinds_showsEmptyCache() {
+        String expectedMessage = String.format(StatsCommand.MESSAGE_SUCCESS, 0, QueryResultCache.DEFAULT_CAPACITY,
+                0, 0, 0.0);
+        assertCommandSuccess(new StatsCommand(), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_repeatedFind_showsHit() throws Exception {
+        new FindCommandParser().parse(" n/Meier").execute(model);
+        new FindCommandParser().parse(" n/meier").execute(model);
+        new FindCommandParser().parse(" t/friends").execute(model);
+
+        String expectedMessage = String.format(StatsCommand.MESSAGE_SUCCESS, 2, QueryResultCache.DEFAULT_CAPACITY,
+                1, 2, 100.0 / 3);
+        assertEquals(new CommandResult(expectedMessage), new StatsCommand().execute(model));
+    }
+}
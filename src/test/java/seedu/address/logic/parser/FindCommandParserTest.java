@@ -19,6 +19,11 @@ import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.ModuleRoleContainsKeywordsPredicate;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.TagContainsKeywordsPredicate;
+import seedu.address.model.person.query.AndQuery;
+import seedu.address.model.person.query.NotQuery;
+import seedu.address.model.person.query.OrQuery;
+import seedu.address.model.person.query.Query;
+import seedu.address.model.person.query.TermQuery;
 
 public class FindCommandParserTest {
 
@@ -216,5 +221,24 @@ public class FindCommandParserTest {
                 + PREFIX_TAG + "school " + PREFIX_TAG + "office " + PREFIX_TAG + "finance",
             expectedFindCommand);
     }
-}
 
+    @Test
+    public void parse_booleanQuery_returnsFindCommand() {
+        Query expectedQuery = new AndQuery(List.of(
+                new OrQuery(List.of(
+                        new TermQuery(new NameContainsKeywordsPredicate(List.of("Alice")), List.of("Alice")),
+                        new TermQuery(new TagContainsKeywordsPredicate(List.of("school")), List.of("school")))),
+                new NotQuery(new TermQuery(new NameContainsKeywordsPredicate(List.of("Bob Lee")),
+                        List.of("Bob Lee")))));
+        FindCommand expectedFindCommand = new FindCommand(List.of(expectedQuery), true);
+        assertParseSuccess(parser, " " + FindCommand.CHAINED + " (" + PREFIX_NAME + "Alice OR " + PREFIX_TAG
+                + "school) AND NOT " + PREFIX_NAME + "Bob Lee", expectedFindCommand);
+        assertParseSuccess(parser, "(" + PREFIX_NAME + "Alice OR " + PREFIX_TAG + "school) AND NOT "
+                + PREFIX_NAME + "Bob Lee", expectedFindCommand);
+
+        // invalid query
+        assertParseFailure(parser, " " + FindCommand.CHAINED + " " + PREFIX_NAME + "Alice OR",
+                Messages.getErrorMessageWithUsage(String.format(QueryParser.MESSAGE_MISSING_OPERAND, "OR"),
+                        FindCommand.MESSAGE_USAGE));
+    }
+}
@@ -0,0 +1,116 @@
+package seedu.address.logic.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_EMPTY_FIND_KEYWORD;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.ModuleRoleContainsKeywordsPredicate;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.TagContainsKeywordsPredicate;
+import seedu.address.model.person.query.AndQuery;
+import seedu.address.model.person.query.NotQuery;
+import seedu.address.model.person.query.OrQuery;
+import seedu.address.model.person.query.Query;
+import seedu.address.model.person.query.TermQuery;
+
+public class QueryParserTest {
+
+    private final QueryParser parser = new QueryParser();
+
+    @Test
+    public void isQuery() {
+        // operators or opening parentheses -> returns true
+        assertTrue(QueryParser.isQuery("n/alice OR n/bob"));
+        assertTrue(QueryParser.isQuery("NOT t/friends"));
+        assertTrue(QueryParser.isQuery("(n/alice)"));
+        assertTrue(QueryParser.isQuery("chained ( r/CS2103T )"));
+
+        // plain find -> returns false
+        assertFalse(QueryParser.isQuery("n/alice n/bob r/CS2103T"));
+        assertFalse(QueryParser.isQuery("chained n/alice"));
+
+        // operators in lower case and parentheses inside keywords are keywords -> returns false
+        assertFalse(QueryParser.isQuery("n/sand and or not"));
+        assertFalse(QueryParser.isQuery("n/Tom (Jr)"));
+    }
+
+    @Test
+    public void parse_singleConditions_returnsTermQuery() throws Exception {
+        assertEquals(name("alice"), parser.parse("n/alice"));
+        assertEquals(name("alice pauline"), parser.parse("  n/alice   pauline "));
+        assertEquals(tag("friends"), parser.parse("(t/friends)"));
+        assertEquals(moduleRole("CS2103T"), parser.parse("((r/CS2103T))"));
+    }
+
+    @Test
+    public void parse_adjacentConditions_combinedAsPlainFind() throws Exception {
+        Query expectedQuery = new AndQuery(List.of(
+                new TermQuery(new NameContainsKeywordsPredicate(List.of("alice", "bob")), List.of("alice", "bob")),
+                moduleRole("CS2103T")));
+        assertEquals(expectedQuery, parser.parse("r/CS2103T n/alice n/bob"));
+    }
+
+    @Test
+    public void parse_operators_followPrecedence() throws Exception {
+        // NOT binds tighter than AND, which binds tighter than OR
+        Query expectedQuery = new OrQuery(List.of(
+                name("alice"),
+                new AndQuery(List.of(new NotQuery(tag("friends")), moduleRole("CS2103T")))));
+        assertEquals(expectedQuery, parser.parse("n/alice OR NOT t/friends AND r/CS2103T"));
+
+        // parentheses override precedence
+        expectedQuery = new AndQuery(List.of(
+                new NotQuery(new OrQuery(List.of(name("alice"), tag("friends")))),
+                moduleRole("CS2103T")));
+        assertEquals(expectedQuery, parser.parse("NOT (n/alice OR t/friends) AND r/CS2103T"));
+
+        // a chain of the same operator forms one query
+        expectedQuery = new OrQuery(List.of(name("a"), name("b"), name("c")));
+        assertEquals(expectedQuery, parser.parse("n/a OR n/b OR n/c"));
+    }
+
+    @Test
+    public void parse_invalidQuery_throwsParseException() {
+        assertParseFailure("", FindCommandParser.MESSAGE_MISSING_SEARCH_KEYWORD);
+        assertParseFailure("n/alice AND", String.format(QueryParser.MESSAGE_MISSING_OPERAND, "AND"));
+        assertParseFailure("OR n/alice", String.format(QueryParser.MESSAGE_MISSING_OPERAND, "OR"));
+        assertParseFailure("NOT", String.format(QueryParser.MESSAGE_MISSING_OPERAND, "NOT"));
+        assertParseFailure("(n/alice OR n/bob", QueryParser.MESSAGE_UNBALANCED_PARENTHESES);
+        assertParseFailure("n/alice)", QueryParser.MESSAGE_UNBALANCED_PARENTHESES);
+        assertParseFailure("()", QueryParser.MESSAGE_UNBALANCED_PARENTHESES);
+        assertParseFailure("(n/alice) (n/bob)", String.format(QueryParser.MESSAGE_MISSING_OPERATOR, "("));
+        assertParseFailure("alice OR n/bob", Messages.MESSAGE_UNEXPECTED_PREAMBLE);
+        assertParseFailure("n/ OR n/bob", MESSAGE_EMPTY_FIND_KEYWORD);
+        assertParseFailure("p/91234567 OR n/bob",
+                Messages.getErrorMessageForUnexpectedPrefixes(CliSyntax.PREFIX_PHONE));
+        assertThrows(ParseException.class, () -> parser.parse("r/invalid-module OR n/bob"));
+    }
+
+    private void assertParseFailure(String query, String message) {
+        assertThrows(ParseException.class, Messages.getErrorMessageWithUsage(message, FindCommand.MESSAGE_USAGE), () ->
+                parser.parse(query));
+    }
+
+    private static Query name(String keyword) {
+        return new TermQuery(new NameContainsKeywordsPredicate(List.of(keyword)), List.of(keyword));
+    }
+
+    private static Query tag(String keyword) {
+        return new TermQuery(new TagContainsKeywordsPredicate(List.of(keyword)), List.of(keyword));
+    }
+
+    private static Query moduleRole(String keyword) throws ParseException {
+        ModuleRoleContainsKeywordsPredicate predicate =
+                new ModuleRoleContainsKeywordsPredicate(ParserUtil.parseModuleRolePairs(List.of(keyword)));
+        return new TermQuery(predicate, predicate.getModuleRolePairs());
+    }
+}
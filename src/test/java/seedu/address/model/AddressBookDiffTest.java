@@ -0,0 +1,50 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.HOON;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBookDiff.ChangedPerson;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class AddressBookDiffTest {
+
+    @Test
+    public void between_sameLists_isEmpty() {
+        List<Person> persons = Arrays.asList(ALICE, BENSON);
+        assertTrue(AddressBookDiff.between(persons, persons).isEmpty());
+    }
+
+    @Test
+    public void between_addedRemovedAndEdited_pairsEditsByIdentity() {
+        Person editedBenson = new PersonBuilder(BENSON).withName("Benson Edited").build();
+        AddressBookDiff diff = AddressBookDiff.between(Arrays.asList(ALICE, BENSON, CARL),
+                Arrays.asList(editedBenson, CARL, HOON));
+
+        AddressBookDiff expected = new AddressBookDiff(Collections.singletonList(HOON),
+                Collections.singletonList(ALICE), Collections.singletonList(new ChangedPerson(BENSON, editedBenson)));
+        assertEquals(expected, diff);
+    }
+
+    @Test
+    public void inverse_swapsAddedAndRemoved() {
+        Person editedBenson = new PersonBuilder(BENSON).withName("Benson Edited").build();
+        AddressBookDiff diff = new AddressBookDiff(Collections.singletonList(HOON),
+                Collections.singletonList(ALICE), Collections.singletonList(new ChangedPerson(BENSON, editedBenson)));
+
+        AddressBookDiff expected = new AddressBookDiff(Collections.singletonList(ALICE),
+                Collections.singletonList(HOON), Collections.singletonList(new ChangedPerson(editedBenson, BENSON)));
+        assertEquals(expected, diff.inverse());
+        assertEquals(diff, diff.inverse().inverse());
+    }
+}
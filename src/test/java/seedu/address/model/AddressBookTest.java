@@ -7,6 +7,7 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.util.Arrays;
@@ -43,6 +44,15 @@ public class AddressBookTest {
         assertEquals(newData, addressBook);
     }
 
+    @Test
+    public void resetData_withVersionedAddressBook_replacesData() {
+        VersionedAddressBook newData = new VersionedAddressBook(getTypicalAddressBook());
+        newData.addPerson(HOON);
+        addressBook.resetData(newData);
+        assertEquals(newData.getPersonList(), addressBook.getPersonList());
+        assertTrue(addressBook.hasPerson(HOON));
+    }
+
     @Test
     public void resetData_withDuplicatePersons_throwsDuplicatePersonException() {
         // Two persons with the same identity fields
@@ -115,6 +125,11 @@ public class AddressBookTest {
         public ObservableList<Person> getPersonList() {
             return persons;
         }
+
+        @Override
+        public long getModificationCount() {
+            return 0;
+        }
     }
 
 }
@@ -23,7 +23,9 @@ import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.history.HistoryCommand;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
 import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.PersonBuilder;
 
 public class ModelManagerTest {
 
@@ -144,6 +146,24 @@ public class ModelManagerTest {
         assertTrue(modelManager.hasPerson(ALICE));
     }
 
+    @Test
+    public void addPersonAndSetPerson_filteredList_searchKept() {
+        modelManager.addPerson(BENSON);
+        modelManager.updateFilteredPersonList(new NameContainsKeywordsPredicate(Arrays.asList("Alice")));
+        assertTrue(modelManager.getFilteredPersonList().isEmpty());
+
+        // added person -> tested against the search
+        modelManager.addPerson(ALICE);
+        assertEquals(Arrays.asList(ALICE), modelManager.getFilteredPersonList());
+
+        // edited persons -> tested again
+        Person renamedBenson = new PersonBuilder(BENSON).withName("Alice Meier").build();
+        modelManager.setPerson(BENSON, renamedBenson);
+        assertEquals(Arrays.asList(renamedBenson, ALICE), modelManager.getFilteredPersonList());
+        modelManager.setPerson(ALICE, new PersonBuilder(ALICE).withName("Carol Pauline").build());
+        assertEquals(Arrays.asList(renamedBenson), modelManager.getFilteredPersonList());
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredPersonList().remove(0));
@@ -1,19 +1,29 @@
 package seedu.address.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.model.VersionedAddressBook.MESSAGE_NO_MORE_HISTORY;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.CARL;
 import static seedu.address.testutil.TypicalPersons.GEORGE;
+import static seedu.address.testutil.TypicalPersons.HOON;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import seedu.address.commons.core.HistorySettings;
 import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
 
 public class VersionedAddressBookTest {
     private AddressBook addressBook1;
@@ -95,6 +105,139 @@ public class VersionedAddressBookTest {
         assertEquals(addressBook2, versionedAddressBook.getCurrentAddressBook());
     }
 
+    @Test
+    public void commitAddressBook_singleChanges_earlierStatesUnchanged() {
+        versionedAddressBook.resetData(addressBook2);
+        versionedAddressBook.commitAddressBook();
+        Person editedAlice = new PersonBuilder(ALICE).withName("Alice Edited").build();
+        versionedAddressBook.setPerson(ALICE, editedAlice);
+        versionedAddressBook.commitAddressBook();
+        versionedAddressBook.removePerson(GEORGE);
+        versionedAddressBook.commitAddressBook();
+
+        AddressBook expectedEdited = new AddressBook(addressBook2);
+        expectedEdited.setPerson(ALICE, editedAlice);
+        AddressBook expectedRemoved = new AddressBook(expectedEdited);
+        expectedRemoved.removePerson(GEORGE);
+
+        List<ReadOnlyAddressBook> states = versionedAddressBook.getAddressBookStateList();
+        assertEquals(Arrays.asList(addressBook1, addressBook2, expectedEdited, expectedRemoved), states);
+        assertEquals(expectedRemoved, versionedAddressBook.getCurrentAddressBook());
+    }
+
+    @Test
+    public void getSnapshot_uncommittedChanges_includedButLaterChangesNot() {
+        versionedAddressBook.resetData(addressBook2);
+        versionedAddressBook.commitAddressBook();
+        versionedAddressBook.removePerson(GEORGE);
+
+        AddressBook expected = new AddressBook(addressBook2);
+        expected.removePerson(GEORGE);
+        ReadOnlyAddressBook snapshot = versionedAddressBook.getSnapshot();
+        assertEquals(expected, snapshot);
+        assertSame(snapshot, snapshot.getSnapshot());
+
+        versionedAddressBook.addPerson(HOON);
+        assertEquals(expected, snapshot);
+    }
+
+    @Test
+    public void undoRedoAddressBook_singleChanges_restoresOrderInPlace() throws CommandException {
+        versionedAddressBook.resetData(addressBook2);
+        versionedAddressBook.commitAddressBook();
+        List<Person> personList = versionedAddressBook.getPersonList();
+
+        Person editedAlice = new PersonBuilder(ALICE).withName("Alice Edited").build();
+        versionedAddressBook.setPerson(ALICE, editedAlice);
+        versionedAddressBook.removePerson(CARL);
+        versionedAddressBook.addPerson(HOON);
+        versionedAddressBook.commitAddressBook();
+        AddressBook expectedChanged = new AddressBook(versionedAddressBook);
+
+        versionedAddressBook.undoAddressBook();
+        assertEquals(addressBook2.getPersonList(), personList);
+        assertEquals(addressBook2, versionedAddressBook.getAddressBookStateList().get(1));
+
+        versionedAddressBook.redoAddressBook();
+        assertEquals(expectedChanged.getPersonList(), personList);
+        assertSame(personList, versionedAddressBook.getPersonList());
+    }
+
+    @Test
+    public void commitAddressBook_tooManyStates_evictsOldest() throws CommandException {
+        VersionedAddressBook limitedAddressBook =
+                new VersionedAddressBook(addressBook1, new HistorySettings(2, Long.MAX_VALUE));
+        limitedAddressBook.addPerson(ALICE);
+        limitedAddressBook.commitAddressBook();
+        limitedAddressBook.addPerson(CARL);
+        limitedAddressBook.commitAddressBook();
+
+        AddressBook expectedOldest = new AddressBook();
+        expectedOldest.addPerson(ALICE);
+        assertEquals(2, limitedAddressBook.getAddressBookStateList().size());
+        assertEquals(expectedOldest, limitedAddressBook.getAddressBookStateList().get(0));
+
+        limitedAddressBook.undoAddressBook();
+        assertEquals(expectedOldest, limitedAddressBook);
+        assertThrows(CommandException.class, MESSAGE_NO_MORE_HISTORY, limitedAddressBook::undoAddressBook);
+    }
+
+    @Test
+    public void commitAddressBook_overByteBudget_keepsLastChange() throws CommandException {
+        VersionedAddressBook limitedAddressBook = new VersionedAddressBook(addressBook1, new HistorySettings(10, 0));
+        limitedAddressBook.resetData(addressBook2);
+        limitedAddressBook.commitAddressBook();
+        AddressBook expectedPrevious = new AddressBook(limitedAddressBook);
+        limitedAddressBook.removePerson(GEORGE);
+        limitedAddressBook.commitAddressBook();
+
+        assertEquals(2, limitedAddressBook.getAddressBookStateList().size());
+        assertEquals(limitedAddressBook.getCurrentAddressBook(), limitedAddressBook.getAddressBookStateList().get(1));
+
+        limitedAddressBook.undoAddressBook();
+        assertEquals(expectedPrevious, limitedAddressBook);
+        assertThrows(CommandException.class, MESSAGE_NO_MORE_HISTORY, limitedAddressBook::undoAddressBook);
+    }
+
+    @Test
+    public void commitAddressBook_singleChangeOverByteBudget_canBeUndone() throws CommandException {
+        VersionedAddressBook limitedAddressBook = new VersionedAddressBook(addressBook2, new HistorySettings(10, 0));
+        limitedAddressBook.setPersons(new ArrayList<>());
+        limitedAddressBook.commitAddressBook();
+
+        limitedAddressBook.undoAddressBook();
+        assertEquals(addressBook2.getPersonList(), limitedAddressBook.getPersonList());
+    }
+
+    @Test
+    public void getChanges_singleChanges_netChangesBetweenStates() {
+        versionedAddressBook.resetData(addressBook2);
+        versionedAddressBook.commitAddressBook();
+        Person editedAlice = new PersonBuilder(ALICE).withName("Alice Edited").build();
+        Person twiceEditedAlice = new PersonBuilder(ALICE).withName("Alice Edited Again").build();
+        versionedAddressBook.setPerson(ALICE, editedAlice);
+        versionedAddressBook.addPerson(HOON);
+        versionedAddressBook.commitAddressBook();
+        versionedAddressBook.setPerson(editedAlice, twiceEditedAlice);
+        versionedAddressBook.removePerson(HOON);
+        versionedAddressBook.removePerson(CARL);
+        versionedAddressBook.commitAddressBook();
+
+        AddressBookDiff expectedStep = new AddressBookDiff(Arrays.asList(HOON), Arrays.asList(),
+                Arrays.asList(new AddressBookDiff.ChangedPerson(ALICE, editedAlice)));
+        assertEquals(expectedStep, versionedAddressBook.getChanges(1, 2));
+
+        AddressBookDiff expectedNet = new AddressBookDiff(Arrays.asList(), Arrays.asList(CARL),
+                Arrays.asList(new AddressBookDiff.ChangedPerson(ALICE, twiceEditedAlice)));
+        assertEquals(expectedNet, versionedAddressBook.getChanges(1, 3));
+        assertEquals(expectedNet.inverse(), versionedAddressBook.getChanges(3, 1));
+
+        // a reset in between falls back to comparing the states
+        assertEquals(AddressBookDiff.between(addressBook1.getPersonList(),
+                versionedAddressBook.getPersonList()), versionedAddressBook.getChanges(0, 3));
+        assertEquals(versionedAddressBook.getAddressBookState(3), versionedAddressBook);
+    }
+
     @Test
     public void testDiscardUnsavedChanges() {
         // discard one change
@@ -108,6 +251,14 @@ public class VersionedAddressBookTest {
         versionedAddressBook.discardUnsavedChanges();
         assertEquals(addressBook1, versionedAddressBook);
 
+        // discard changes made in place
+        versionedAddressBook.resetData(addressBook2);
+        versionedAddressBook.commitAddressBook();
+        versionedAddressBook.removePerson(ALICE);
+        versionedAddressBook.setPerson(GEORGE, new PersonBuilder(GEORGE).withName("George Edited").build());
+        versionedAddressBook.discardUnsavedChanges();
+        assertEquals(addressBook2.getPersonList(), versionedAddressBook.getPersonList());
+
         // discard no changes
         versionedAddressBook.resetData(addressBook2);
         versionedAddressBook.commitAddressBook();
@@ -144,6 +295,30 @@ public class VersionedAddressBookTest {
         assertEquals(sameVersionedAddressBook, sameVersionedAddressBook);
     }
 
+    @Test
+    public void hasUnsavedChanges() throws CommandException {
+        assertFalse(versionedAddressBook.hasUnsavedChanges());
+
+        // resetting to the same persons is not a change
+        versionedAddressBook.resetData(addressBook1);
+        assertFalse(versionedAddressBook.hasUnsavedChanges());
+
+        versionedAddressBook.addPerson(ALICE);
+        assertTrue(versionedAddressBook.hasUnsavedChanges());
+        versionedAddressBook.commitAddressBook();
+        assertFalse(versionedAddressBook.hasUnsavedChanges());
+
+        versionedAddressBook.removePerson(ALICE);
+        assertTrue(versionedAddressBook.hasUnsavedChanges());
+        versionedAddressBook.discardUnsavedChanges();
+        assertFalse(versionedAddressBook.hasUnsavedChanges());
+
+        versionedAddressBook.undoAddressBook();
+        assertFalse(versionedAddressBook.hasUnsavedChanges());
+        versionedAddressBook.redoAddressBook();
+        assertFalse(versionedAddressBook.hasUnsavedChanges());
+    }
+
     @Test
     public void undoAddressBook_withUnsavedChanges_throwsCommandException() {
         versionedAddressBook.resetData(addressBook2);
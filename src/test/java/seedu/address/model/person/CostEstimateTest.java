@@ -0,0 +1,83 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class CostEstimateTest {
+
+    @Test
+    public void constructor_invalidValues_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new CostEstimate(-0.1, 1));
+        assertThrows(IllegalArgumentException.class, () -> new CostEstimate(1.1, 1));
+        assertThrows(IllegalArgumentException.class, () -> new CostEstimate(0.5, -1));
+    }
+
+    @Test
+    public void of_matchCount_selectivityIsFractionOfPersons() {
+        assertEquals(new CostEstimate(0.25, 10), CostEstimate.of(25, 100, 10));
+
+        // more matches than persons -> capped
+        assertEquals(new CostEstimate(1, 10), CostEstimate.of(150, 100, 10));
+
+        // no persons -> matches none
+        assertEquals(new CostEstimate(0, 10), CostEstimate.of(0, 0, 10));
+    }
+
+    @Test
+    public void getCostAmong_fewCandidates_costOfTesting() {
+        CostEstimate estimate = new CostEstimate(0.5, 10);
+        assertEquals(4 * CostEstimate.TEST_COST, estimate.getCostAmong(4));
+        assertEquals(10.0, estimate.getCostAmong(1000));
+        assertTrue(estimate.isTestingCheaper(4));
+        assertFalse(estimate.isTestingCheaper(1000));
+    }
+
+    @Test
+    public void getConjunctionRank_selectiveFirst() {
+        // same cost, fewer matches -> ranked first
+        assertTrue(new CostEstimate(0.1, 10).getConjunctionRank() < new CostEstimate(0.9, 10).getConjunctionRank());
+
+        // matches everyone -> ranked last
+        assertEquals(Double.POSITIVE_INFINITY, new CostEstimate(1, 0).getConjunctionRank());
+    }
+
+    @Test
+    public void getDisjunctionRank_inclusiveFirst() {
+        // same cost, more matches -> ranked first
+        assertTrue(new CostEstimate(0.9, 10).getDisjunctionRank() < new CostEstimate(0.1, 10).getDisjunctionRank());
+
+        // matches no one -> ranked last
+        assertEquals(Double.POSITIVE_INFINITY, new CostEstimate(0, 0).getDisjunctionRank());
+    }
+
+    @Test
+    public void equals() {
+        CostEstimate estimate = new CostEstimate(0.5, 10);
+
+        // same values -> returns true
+        assertTrue(estimate.equals(new CostEstimate(0.5, 10)));
+
+        // same object -> returns true
+        assertTrue(estimate.equals(estimate));
+
+        // null -> returns false
+        assertFalse(estimate.equals(null));
+
+        // different types -> returns false
+        assertFalse(estimate.equals(0.5));
+
+        // different values -> returns false
+        assertFalse(estimate.equals(new CostEstimate(0.4, 10)));
+        assertFalse(estimate.equals(new CostEstimate(0.5, 11)));
+    }
+
+    @Test
+    public void toStringMethod() {
+        assertEquals(CostEstimate.class.getCanonicalName() + "{selectivity=0.2500, cost=10}",
+                new CostEstimate(0.25, 10).toString());
+    }
+}
@@ -73,6 +73,30 @@ public class InFilteredListPredicateTest {
                 new ModuleCode("CS2101"), RoleType.TUTOR).build()));
     }
 
+    @Test
+    public void test_withPersonIndex_matchesEditedPersonsOnly() {
+        Person alice = new PersonBuilder().withName("Alice").withPhone("11111111").withEmail("alice@example.com")
+                .build();
+        Person bob = new PersonBuilder().withName("Bob").withPhone("22222222").withEmail("bob@example.com").build();
+        UniquePersonList uniquePersonList = new UniquePersonList();
+        uniquePersonList.setPersons(Arrays.asList(alice, bob));
+        InFilteredListPredicate predicate = new InFilteredListPredicate(Collections.singletonList(alice),
+                uniquePersonList.getPersonIndex());
+
+        // edited person in the list -> returns true
+        Person editedAlice = new PersonBuilder(alice).withName("Alicia").build();
+        uniquePersonList.setPerson(alice, editedAlice);
+        assertTrue(predicate.test(editedAlice));
+
+        // person added with the ordinal of a removed person -> returns false
+        Person carol = new PersonBuilder().withName("Carol").withPhone("33333333").withEmail("carol@example.com")
+                .build();
+        uniquePersonList.remove(editedAlice);
+        uniquePersonList.add(carol);
+        assertFalse(predicate.test(carol));
+        assertFalse(predicate.test(bob));
+    }
+
     @Test
     public void toStringMethod() {
         List<Person> personList = Collections.singletonList(new PersonBuilder().withName("Alice").build());
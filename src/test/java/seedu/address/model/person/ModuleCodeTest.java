@@ -1,7 +1,9 @@
 package seedu.address.model.person;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
@@ -14,6 +16,14 @@ public class ModuleCodeTest {
         assertThrows(NullPointerException.class, () -> new ModuleCode(null));
     }
 
+    @Test
+    public void of_sameModuleCode_returnsSameInstance() {
+        ModuleCode moduleCode = ModuleCode.of("CS2103T");
+        assertSame(moduleCode, ModuleCode.of(" cs2103t "));
+        assertEquals(new ModuleCode("CS2103T"), moduleCode);
+        assertThrows(IllegalArgumentException.class, () -> ModuleCode.of("CS 2103T"));
+    }
+
     @Test
     public void constructor_emptyString_throwsIllegalArgumentException() {
         assertThrows(IllegalArgumentException.class, () -> {
@@ -4,6 +4,7 @@ import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -259,6 +260,26 @@ public class ModuleRoleMapTest {
                 moduleRoleMap.toString());
     }
 
+    @Test
+    public void put_remove_returnsCopiesInInputOrder() {
+        ModuleRoleMap original = new ModuleRoleMap(
+                new ModuleCode[] {new ModuleCode("CS3241"), new ModuleCode("MA1522")},
+                new RoleType[] {RoleType.STUDENT, RoleType.TUTOR});
+
+        ModuleRoleMap added = original.put(new ModuleCode("CS2106"), RoleType.PROFESSOR);
+        assertEquals(2, original.size());
+        assertEquals("[CS3241-Student, MA1522-Tutor, CS2106-Professor]", added.getData().toString());
+
+        ModuleRoleMap replaced = added.put(new ModuleCode("cs3241"), RoleType.TUTOR);
+        assertEquals("[CS3241-Tutor, MA1522-Tutor, CS2106-Professor]", replaced.getData().toString());
+
+        ModuleRoleMap removed = replaced.remove(new ModuleCode("MA1522"), RoleType.TUTOR);
+        assertEquals("[CS3241-Tutor, CS2106-Professor]", removed.getData().toString());
+        assertSame(removed, removed.remove(new ModuleCode("CS2106"), RoleType.STUDENT));
+        assertEquals("[CS3241-Tutor]", removed.removeIgnoringRole(new ModuleCode("CS2106")).getData().toString());
+        assertEquals(3, replaced.size());
+    }
+
     @Test
     public void equals() {
         LinkedHashMap<ModuleCode, RoleType> roles = new LinkedHashMap<>();
@@ -296,5 +317,6 @@ public class ModuleRoleMapTest {
         // different objects but same roles in different order -> returns true
         assertEquals(moduleRoleMap1, moduleRoleMap4);
         assertEquals(moduleRoleMap2, moduleRoleMap4);
+        assertEquals(moduleRoleMap1.hashCode(), moduleRoleMap4.hashCode());
     }
 }
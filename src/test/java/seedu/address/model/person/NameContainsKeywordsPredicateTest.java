@@ -3,6 +3,9 @@ package seedu.address.model.person;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TestUtil.getBytesAllocated;
 
 import java.util.Arrays;
 import java.util.Collections;
@@ -14,6 +17,8 @@ import seedu.address.testutil.PersonBuilder;
 
 public class NameContainsKeywordsPredicateTest {
 
+    private static final int REPETITIONS = 10_000;
+
     @Test
     public void equals() {
         List<String> firstPredicateKeywordList = Collections.singletonList("first");
@@ -74,6 +79,36 @@ public class NameContainsKeywordsPredicateTest {
                 .withEmail("alice@email.com").withAddress("Main Street").build()));
     }
 
+    @Test
+    public void constructor_blankKeyword_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new NameContainsKeywordsPredicate(List.of("Alice", " ")));
+    }
+
+    @Test
+    public void test_repeatedCalls_noAllocation() {
+        NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(List.of("carol", "meier"));
+        Person alice = new PersonBuilder().withName("Alice Pauline").build();
+        Person benson = new PersonBuilder().withName("Benson Meier").build();
+        long bytesAllocated = getBytesAllocated(() -> {
+            predicate.test(alice);
+            predicate.test(benson);
+        }, REPETITIONS);
+        assumeTrue(bytesAllocated >= 0, "Allocations cannot be measured on this JVM");
+        assertTrue(bytesAllocated < REPETITIONS, bytesAllocated + " bytes allocated");
+    }
+
+    @Test
+    public void getCacheKey_sameKeywordsInDifferentOrderOrCase_sameKey() {
+        String cacheKey = new NameContainsKeywordsPredicate(Arrays.asList("Alice", "bob")).getCacheKey();
+        assertEquals(cacheKey, new NameContainsKeywordsPredicate(Arrays.asList("BOB", " alice ")).getCacheKey());
+        assertFalse(cacheKey.equals(new NameContainsKeywordsPredicate(Arrays.asList("alice bob")).getCacheKey()));
+        assertFalse(cacheKey.equals(new TagContainsKeywordsPredicate(Arrays.asList("alice", "bob")).getCacheKey()));
+
+        // quotes in keywords cannot make different keywords share a key
+        assertFalse(new NameContainsKeywordsPredicate(Arrays.asList("a\",\"b")).getCacheKey()
+                .equals(new NameContainsKeywordsPredicate(Arrays.asList("a", "b")).getCacheKey()));
+    }
+
     @Test
     public void toStringMethod() {
         List<String> keywords = List.of("keyword1", "keyword2");
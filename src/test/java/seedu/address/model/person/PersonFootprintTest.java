@@ -0,0 +1,133 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.openjdk.jol.info.ClassLayout;
+import org.openjdk.jol.info.GraphLayout;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.parser.ParserUtil;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.tag.Tag;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Reports the heap footprint of a {@code Person}, as measured by JOL, and checks that its layout stays compact.
+ */
+public class PersonFootprintTest {
+
+    private static final Logger logger = LogsCenter.getLogger(PersonFootprintTest.class);
+
+    private static final ModuleCode[] MODULE_CODES = {ModuleCode.of("CS2103T"), ModuleCode.of("CS1101S")};
+    private static final RoleType[] ROLE_TYPES = {RoleType.TUTOR, RoleType.STUDENT};
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void footprint_typicalPerson_reported() {
+        Person person = buildPerson("Alice Pauline", "94351253");
+        GraphLayout layout = GraphLayout.parseInstance(person);
+
+        logger.info("Person layout:\n" + ClassLayout.parseClass(Person.class).toPrintable());
+        logger.info("Person footprint:\n" + layout.toFootprint());
+
+        assertFalse(layout.getClasses().contains(Optional.class));
+    }
+
+    @Test
+    public void footprint_personWithoutOptionalFields_compactLayout() {
+        Person emptyPerson = new PersonBuilder().withName("Alice Pauline").withEmptyPhone().withEmptyEmail()
+                .withEmptyAddress().withEmptyDescription().withTags().withEmptyModuleRoleMap().build();
+        GraphLayout layout = GraphLayout.parseInstance(emptyPerson);
+
+        // absent fields are nulls and the tags an array, rather than Optionals and a HashSet
+        assertFalse(layout.getClasses().contains(Optional.class));
+        assertFalse(layout.getClasses().contains(HashSet.class));
+        assertTrue(ClassLayout.parseClass(Person.class).instanceSize()
+                <= ClassLayout.parseClass(SevenFieldsAndHashCode.class).instanceSize());
+    }
+
+    @Test
+    public void footprint_personsWithSameTagsAndModules_shareThem() throws Exception {
+        Person parsedPerson = parsePerson("Alice Pauline");
+        Person otherParsedPerson = parsePerson("Benson Meier");
+        assertSharesTagsAndModuleCodes(parsedPerson, otherParsedPerson);
+
+        // a loaded person's tags and module codes are read from the file into newly allocated strings
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(otherParsedPerson);
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(testFolder.resolve("addressBook.json"));
+        storage.saveAddressBook(addressBook);
+        Person loadedPerson = storage.readAddressBook().get().getPersonList().get(0);
+        assertSharesTagsAndModuleCodes(parsedPerson, loadedPerson);
+    }
+
+    /**
+     * A class with one reference for each field of {@code Person} and its cached hash code.
+     */
+    @SuppressWarnings("unused")
+    private static class SevenFieldsAndHashCode {
+        private Object name;
+        private Object phone;
+        private Object email;
+        private Object address;
+        private Object tags;
+        private Object moduleRoleMap;
+        private Object description;
+        private int hashCode;
+    }
+
+    /**
+     * Parses a person named {@code name}, with the same tags and module roles as every other parsed person,
+     * from strings that are each allocated anew.
+     */
+    private static Person parsePerson(String name) throws ParseException {
+        return new Person(ParserUtil.parseName(new String(name)), Optional.empty(), Optional.empty(),
+                Optional.empty(), ParserUtil.parseTags(List.of(new String("friends"), new String("owesMoney"))),
+                ParserUtil.parseModuleRoleMap(List.of(new String("CS2103T-tutor"), new String("CS1101S-student"))),
+                Optional.empty());
+    }
+
+    /**
+     * Asserts that {@code person} and {@code otherPerson} have equal tags and module codes, which are the same
+     * instances rather than copies.
+     */
+    private static void assertSharesTagsAndModuleCodes(Person person, Person otherPerson) {
+        assertEquals(person.getTags(), otherPerson.getTags());
+        for (Tag tag : person.getTags()) {
+            assertSame(tag, findEqual(otherPerson.getTags(), tag));
+        }
+
+        Set<ModuleCode> moduleCodes = person.getModuleRoleMap().getRoles().keySet();
+        Set<ModuleCode> otherModuleCodes = otherPerson.getModuleRoleMap().getRoles().keySet();
+        assertEquals(moduleCodes, otherModuleCodes);
+        for (ModuleCode moduleCode : moduleCodes) {
+            assertSame(moduleCode, findEqual(otherModuleCodes, moduleCode));
+        }
+    }
+
+    private static <T> T findEqual(Collection<T> elements, T element) {
+        return elements.stream().filter(element::equals).findFirst().orElseThrow();
+    }
+
+    private static Person buildPerson(String name, String phone) {
+        return new PersonBuilder().withName(name).withPhone(phone).withTags("friends", "owesMoney")
+                .withModuleRoleMap(MODULE_CODES, ROLE_TYPES).build();
+    }
+}
@@ -0,0 +1,251 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.util.CompressedBitmap;
+import seedu.address.commons.util.KeywordMatcher;
+import seedu.address.commons.util.MultiKeywordMatcher;
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonIndexTest {
+
+    private static final ModuleCode CS1101S = new ModuleCode("CS1101S");
+    private static final ModuleCode CS2040S = new ModuleCode("CS2040S");
+
+    private final UniquePersonList uniquePersonList = new UniquePersonList();
+    private final PersonIndex personIndex = uniquePersonList.getPersonIndex();
+
+    @Test
+    public void getPersonsWithModule_nullModuleCode_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> personIndex.getPersonsWithModule(null));
+    }
+
+    @Test
+    public void getPersonsWithModule_personsAdded_returnsPersonsWithModule() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BENSON, CARL));
+        assertPersons(personIndex.getPersonsWithModule(CS1101S), ALICE, BENSON, CARL);
+        assertPersons(personIndex.getPersonsWithModule(CS2040S), BENSON);
+        assertPersons(personIndex.getPersonsWithModule(new ModuleCode("CS2103T")));
+    }
+
+    @Test
+    public void getPersonsWithModuleRole_personsAdded_returnsPersonsWithRole() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BENSON);
+        assertPersons(personIndex.getPersonsWithModuleRole(new ModuleRolePair(CS1101S, RoleType.STUDENT)), ALICE);
+        assertPersons(personIndex.getPersonsWithModuleRole(new ModuleRolePair(CS1101S, RoleType.TUTOR)), BENSON);
+        assertPersons(personIndex.getPersonsWithModuleRole(new ModuleRolePair(CS2040S, RoleType.TUTOR)));
+    }
+
+    @Test
+    public void getPersonsWithTagContaining_personsAdded_matchesIgnoringCase() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BENSON, CARL));
+        assertPersons(getPersonsWithTagContaining("FRIEND"), ALICE, BENSON);
+        assertPersons(getPersonsWithTagContaining("money"), BENSON);
+        assertPersons(getPersonsWithTagContaining("colleagues"));
+        assertPersons(getPersonsWithTagContaining("colleagues", "owe"), BENSON);
+    }
+
+    @Test
+    public void getPersonsWithNameContaining_keywordWithTrigrams_matchesIgnoringCase() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BENSON, CARL));
+        assertPersons(personIndex.getPersonsWithNameContaining(new KeywordMatcher("MEIER")), BENSON);
+        assertPersons(personIndex.getPersonsWithNameContaining(new KeywordMatcher(" n mei ")), BENSON);
+        assertPersons(personIndex.getPersonsWithNameContaining(new KeywordMatcher("alice pauline")), ALICE);
+
+        // all trigrams present, but not in sequence
+        assertPersons(personIndex.getPersonsWithNameContaining(new KeywordMatcher("paulice")));
+
+        // trigram absent
+        assertPersons(personIndex.getPersonsWithNameContaining(new KeywordMatcher("xyz")));
+    }
+
+    @Test
+    public void getPersonsWithNameContaining_shortKeyword_matchesIgnoringCase() {
+        Person shortNamedPerson = new PersonBuilder().withName("Al").build();
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BENSON, CARL, shortNamedPerson));
+        assertPersons(personIndex.getPersonsWithNameContaining(new KeywordMatcher("AL")), ALICE, shortNamedPerson);
+        assertPersons(personIndex.getPersonsWithNameContaining(new KeywordMatcher("k")), CARL);
+        assertPersons(personIndex.getPersonsWithNameContaining(new KeywordMatcher("e")), ALICE, BENSON);
+    }
+
+    @Test
+    public void getPersonsWithNameContaining_turkishDefaultLocale_matchesLikePredicate() {
+        Locale defaultLocale = Locale.getDefault();
+        Locale.setDefault(new Locale("tr", "TR"));
+        try {
+            Person ivan = new PersonBuilder().withName("IVAN ILYICH").withTags("INTERN").build();
+            uniquePersonList.setPersons(Arrays.asList(ALICE, ivan));
+            KeywordMatcher matcher = new KeywordMatcher("ivan");
+            assertTrue(matcher.isSubstringOf(ivan.getName().fullName));
+            assertPersons(personIndex.getPersonsWithNameContaining(matcher), ivan);
+            assertPersons(personIndex.getPersonsWithNameContaining(new KeywordMatcher("Ilyich")), ivan);
+            assertPersons(getPersonsWithTagContaining("intern"), ivan);
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+    }
+
+    @Test
+    public void getPersonsWithNameContaining_personRenamed_indexUpdated() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BENSON));
+        Person renamedAlice = new PersonBuilder(ALICE).withName("Alicia Meier").build();
+        uniquePersonList.setPerson(ALICE, renamedAlice);
+        assertPersons(personIndex.getPersonsWithNameContaining(new KeywordMatcher("pauline")));
+        assertPersons(personIndex.getPersonsWithNameContaining(new KeywordMatcher("meier")), renamedAlice, BENSON);
+    }
+
+    @Test
+    public void getPersonsWithModule_personEditedAndRemoved_indexUpdated() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BENSON));
+        Person editedAlice = new PersonBuilder(ALICE).withModuleRoleMap(CS2040S, RoleType.TUTOR)
+                .withTags("colleagues").build();
+        uniquePersonList.setPerson(ALICE, editedAlice);
+        assertPersons(personIndex.getPersonsWithModule(CS1101S), BENSON);
+        assertPersons(personIndex.getPersonsWithModule(CS2040S), editedAlice, BENSON);
+        assertPersons(getPersonsWithTagContaining("colleagues"), editedAlice);
+
+        uniquePersonList.remove(BENSON);
+        assertPersons(personIndex.getPersonsWithModule(CS1101S));
+        assertPersons(getPersonsWithTagContaining("friends"));
+    }
+
+    @Test
+    public void getPersonsWithModule_equalPersons_tracksEachPerson() {
+        Person person = new PersonBuilder().withEmptyPhone().withEmptyEmail().build();
+        Person equalPerson = new PersonBuilder().withEmptyPhone().withEmptyEmail().build();
+        uniquePersonList.add(person);
+        uniquePersonList.add(equalPerson);
+
+        uniquePersonList.remove(equalPerson);
+        CompressedBitmap ordinals = personIndex.getPersonsWithModule(CS1101S);
+        assertEquals(1, ordinals.getCardinality());
+        Person remainingPerson = uniquePersonList.asUnmodifiableObservableList().get(0);
+        assertSame(remainingPerson, personIndex.getPerson(ordinals.toArray()[0]));
+    }
+
+    @Test
+    public void getPersonsWithModule_modifyBitmap_indexUnchanged() {
+        uniquePersonList.add(ALICE);
+        personIndex.getPersonsWithModule(CS1101S).remove(personIndex.getOrdinal(ALICE));
+        assertPersons(personIndex.getPersonsWithModule(CS1101S), ALICE);
+    }
+
+    @Test
+    public void getOrdinal_personsAddedAndRemoved_ordinalsDenseAndStable() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BENSON, CARL));
+        assertEquals(CompressedBitmap.of(0, 1, 2), personIndex.getOrdinals(Arrays.asList(ALICE, BENSON, CARL)));
+        int bensonOrdinal = personIndex.getOrdinal(BENSON);
+        int carlOrdinal = personIndex.getOrdinal(CARL);
+
+        // the ordinal of a removed person is given to the next person added
+        uniquePersonList.remove(ALICE);
+        assertEquals(-1, personIndex.getOrdinal(ALICE));
+        uniquePersonList.add(DANIEL);
+        assertEquals(CompressedBitmap.of(0, 1, 2), personIndex.getOrdinals(Arrays.asList(BENSON, CARL, DANIEL)));
+        assertEquals(bensonOrdinal, personIndex.getOrdinal(BENSON));
+        assertEquals(carlOrdinal, personIndex.getOrdinal(CARL));
+        assertSame(DANIEL, personIndex.getPerson(personIndex.getOrdinal(DANIEL)));
+    }
+
+    @Test
+    public void wasAddedBefore_personsEditedRemovedAndAdded_followsEditedPersons() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BENSON));
+        int aliceOrdinal = personIndex.getOrdinal(ALICE);
+        long additionCount = personIndex.getAdditionCount();
+
+        // an edited person keeps the ordinal and addition of the person it replaced
+        Person editedAlice = new PersonBuilder(ALICE).withName("Alicia Pauline").build();
+        uniquePersonList.setPerson(ALICE, editedAlice);
+        assertEquals(aliceOrdinal, personIndex.getOrdinal(editedAlice));
+        assertTrue(personIndex.wasAddedBefore(editedAlice, additionCount));
+        assertEquals(additionCount, personIndex.getAdditionCount());
+
+        // a person added since is told apart, even if given a reused ordinal
+        uniquePersonList.remove(BENSON);
+        uniquePersonList.add(CARL);
+        assertFalse(personIndex.wasAddedBefore(CARL, additionCount));
+        assertFalse(personIndex.wasAddedBefore(BENSON, additionCount));
+    }
+
+    @Test
+    public void getPerson_noSuchOrdinal_throwsIllegalArgumentException() {
+        uniquePersonList.add(ALICE);
+        assertThrows(IllegalArgumentException.class, () -> personIndex.getPerson(-1));
+        assertThrows(IllegalArgumentException.class, () -> personIndex.getPerson(1));
+        uniquePersonList.remove(ALICE);
+        assertThrows(IllegalArgumentException.class, () -> personIndex.getPerson(0));
+    }
+
+    @Test
+    public void getOrdinals_personsNotIndexed_leftOut() {
+        uniquePersonList.add(ALICE);
+        Person equalAlice = new PersonBuilder(ALICE).build();
+        assertEquals(CompressedBitmap.of(personIndex.getOrdinal(ALICE)),
+                personIndex.getOrdinals(Arrays.asList(ALICE, equalAlice, BENSON)));
+    }
+
+    @Test
+    public void getOrdinalsMatching_predicate_returnsMatchingCandidates() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BENSON, CARL));
+        CompressedBitmap candidates = personIndex.getOrdinals(Arrays.asList(ALICE, CARL));
+        assertPersons(personIndex.getOrdinalsMatching(candidates, person -> person.getTags().isEmpty()), CARL);
+        assertPersons(personIndex.getOrdinalsMatching(candidates, person -> false));
+    }
+
+    @Test
+    public void estimateModuleRoleLookup_personsAdded_countsPersonsWithRole() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BENSON, CARL));
+        assertEquals(new CostEstimate(2.0 / 3, 3),
+                personIndex.estimateModuleRoleLookup(Arrays.asList(new ModuleRolePair(CS1101S, RoleType.STUDENT))));
+        ModuleRolePair absentModuleRole = new ModuleRolePair(new ModuleCode("CS2103T"), RoleType.STUDENT);
+        assertEquals(new CostEstimate(0, 1), personIndex.estimateModuleRoleLookup(Arrays.asList(absentModuleRole)));
+    }
+
+    @Test
+    public void estimateTagLookup_personsAddedAndRemoved_averagesPersonsPerTag() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BENSON, CARL));
+        // two tags held three times in all
+        MultiKeywordMatcher matcher = new MultiKeywordMatcher(Arrays.asList("friends"));
+        assertEquals(new CostEstimate(0.5, 3.5), personIndex.estimateTagLookup(matcher));
+
+        uniquePersonList.remove(BENSON);
+        assertEquals(new CostEstimate(0.5, 2), personIndex.estimateTagLookup(matcher));
+    }
+
+    @Test
+    public void estimateNameLookup_keywords_countsTrigramCandidates() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BENSON, CARL));
+        assertEquals(new CostEstimate(1.0 / 3, 4), personIndex.estimateNameLookup(new KeywordMatcher("meier")));
+        assertEquals(new CostEstimate(0, 1), personIndex.estimateNameLookup(new KeywordMatcher("xyz")));
+
+        // keyword shorter than a trigram -> every person tested
+        CostEstimate shortKeywordEstimate = personIndex.estimateNameLookup(new KeywordMatcher("al"));
+        assertEquals(1.0, shortKeywordEstimate.getSelectivity());
+        assertTrue(shortKeywordEstimate.getCost() > personIndex.size());
+    }
+
+    private CompressedBitmap getPersonsWithTagContaining(String... keywords) {
+        return personIndex.getPersonsWithTagContaining(new MultiKeywordMatcher(Arrays.asList(keywords)));
+    }
+
+    private void assertPersons(CompressedBitmap actual, Person... expected) {
+        for (Person person : expected) {
+            assertTrue(personIndex.getOrdinal(person) >= 0);
+        }
+        assertEquals(personIndex.getOrdinals(Arrays.asList(expected)), actual);
+    }
+}
@@ -19,11 +19,14 @@ import static seedu.address.testutil.TypicalPersons.BOB;
 import static seedu.address.testutil.TypicalPersons.CARL;
 import static seedu.address.testutil.TypicalPersons.DANIEL;
 
+import java.util.Arrays;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.model.tag.Tag;
 import seedu.address.testutil.PersonBuilder;
 
 public class PersonTest {
@@ -222,6 +225,26 @@ public class PersonTest {
         assertFalse(ALICE.equals(editedAlice));
     }
 
+    @Test
+    public void getTags_tagsInAnyOrder_iteratedByName() {
+        Person person = new PersonBuilder().withTags("friends", "colleagues", "family").build();
+        assertEquals(Arrays.asList("colleagues", "family", "friends"),
+                person.getTags().stream().map(tag -> tag.tagName).collect(Collectors.toList()));
+        assertTrue(person.getTags().contains(new Tag("family")));
+        assertFalse(person.getTags().contains(new Tag("husband")));
+    }
+
+    @Test
+    public void hashCode_sameValuesInDifferentOrder_sameHashCode() {
+        Person person = new PersonBuilder().withTags("friends", "family").build();
+        Person samePerson = new PersonBuilder().withTags("family", "friends").build();
+        assertEquals(person, samePerson);
+        assertEquals(person.hashCode(), samePerson.hashCode());
+
+        // cached hash code is stable
+        assertEquals(person.hashCode(), person.hashCode());
+    }
+
     @Test
     public void toStringMethod() {
         String expected = Person.class.getCanonicalName()
@@ -0,0 +1,97 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.util.CompressedBitmap;
+import seedu.address.testutil.PersonBuilder;
+
+public class QueryResultCacheTest {
+
+    private static final Predicate<Person> HAS_TAGS = person -> !person.getTags().isEmpty();
+
+    private final UniquePersonList uniquePersonList = new UniquePersonList();
+    private final PersonIndex personIndex = uniquePersonList.getPersonIndex();
+    private final QueryResultCache queryResultCache = personIndex.getQueryResultCache();
+
+    @Test
+    public void constructor_nonPositiveCapacity_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new QueryResultCache(0));
+    }
+
+    @Test
+    public void get_cachedAndUncachedKeys_countsHitsAndMisses() {
+        assertEquals(0.0, queryResultCache.getHitRate());
+        queryResultCache.put("tagged", HAS_TAGS, CompressedBitmap.of(1, 2));
+        assertEquals(CompressedBitmap.of(1, 2), queryResultCache.get("tagged"));
+        assertNull(queryResultCache.get("untagged"));
+        assertEquals(1, queryResultCache.getHitCount());
+        assertEquals(1, queryResultCache.getMissCount());
+        assertEquals(0.5, queryResultCache.getHitRate());
+    }
+
+    @Test
+    public void get_modifyResult_cacheUnchanged() {
+        queryResultCache.put("tagged", HAS_TAGS, CompressedBitmap.of(1));
+        queryResultCache.get("tagged").add(2);
+        assertEquals(CompressedBitmap.of(1), queryResultCache.get("tagged"));
+    }
+
+    @Test
+    public void put_beyondCapacity_evictsLeastRecentlyUsed() {
+        QueryResultCache smallCache = new QueryResultCache(2);
+        smallCache.put("first", HAS_TAGS, CompressedBitmap.of(1));
+        smallCache.put("second", HAS_TAGS, CompressedBitmap.of(2));
+        smallCache.get("first");
+        smallCache.put("third", HAS_TAGS, CompressedBitmap.of(3));
+        assertEquals(2, smallCache.size());
+        assertNull(smallCache.get("second"));
+        assertEquals(CompressedBitmap.of(1), smallCache.get("first"));
+        assertEquals(CompressedBitmap.of(3), smallCache.get("third"));
+    }
+
+    @Test
+    public void personsChanged_cachedResultsKeptUpToDate() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BENSON, CARL));
+        queryResultCache.put("tagged", HAS_TAGS, personIndex.getOrdinals(List.of(ALICE, BENSON)));
+
+        // removed -> left out
+        uniquePersonList.remove(ALICE);
+        assertCachedPersons(BENSON);
+
+        // added, reusing the ordinal of the removed person -> tested
+        Person taggedPerson = new PersonBuilder().withName("Tagged Person").withTags("friends").build();
+        uniquePersonList.add(taggedPerson);
+        assertCachedPersons(BENSON, taggedPerson);
+
+        // edited -> tested again
+        Person untaggedBenson = new PersonBuilder(BENSON).withTags().build();
+        Person taggedCarl = new PersonBuilder(CARL).withTags("colleagues").build();
+        uniquePersonList.setPerson(BENSON, untaggedBenson);
+        uniquePersonList.setPerson(CARL, taggedCarl);
+        assertCachedPersons(taggedPerson, taggedCarl);
+    }
+
+    @Test
+    public void personsReplaced_cacheCleared() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BENSON));
+        queryResultCache.put("tagged", HAS_TAGS, personIndex.getOrdinals(List.of(ALICE, BENSON)));
+        uniquePersonList.setPersons(Arrays.asList(CARL));
+        assertEquals(0, queryResultCache.size());
+        assertNull(queryResultCache.get("tagged"));
+    }
+
+    private void assertCachedPersons(Person... expected) {
+        assertEquals(personIndex.getOrdinals(Arrays.asList(expected)), queryResultCache.get("tagged"));
+    }
+}
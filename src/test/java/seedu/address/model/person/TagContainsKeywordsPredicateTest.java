@@ -0,0 +1,51 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TestUtil.getBytesAllocated;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class TagContainsKeywordsPredicateTest {
+
+    private static final int REPETITIONS = 10_000;
+
+    @Test
+    public void constructor_blankKeyword_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new TagContainsKeywordsPredicate(List.of("")));
+    }
+
+    @Test
+    public void test_tagContainsKeywords_returnsTrue() {
+        TagContainsKeywordsPredicate predicate = new TagContainsKeywordsPredicate(List.of("MONEY", "colleague"));
+        assertTrue(predicate.test(new PersonBuilder().withTags("friends", "owesMoney").build()));
+        assertTrue(predicate.test(new PersonBuilder().withTags("colleagues").build()));
+    }
+
+    @Test
+    public void test_tagDoesNotContainKeywords_returnsFalse() {
+        TagContainsKeywordsPredicate predicate = new TagContainsKeywordsPredicate(List.of("money"));
+        assertFalse(predicate.test(new PersonBuilder().withTags("friends").build()));
+        assertFalse(predicate.test(new PersonBuilder().withTags().withName("Money Penny").build()));
+
+        // Zero keywords
+        predicate = new TagContainsKeywordsPredicate(Collections.emptyList());
+        assertFalse(predicate.test(new PersonBuilder().withTags("friends").build()));
+    }
+
+    @Test
+    public void test_repeatedCalls_noAllocation() {
+        TagContainsKeywordsPredicate predicate = new TagContainsKeywordsPredicate(List.of("money", "colleague"));
+        Person person = new PersonBuilder().withTags("friends", "family").build();
+        long bytesAllocated = getBytesAllocated(() -> predicate.test(person), REPETITIONS);
+        assumeTrue(bytesAllocated >= 0, "Allocations cannot be measured on this JVM");
+        assertTrue(bytesAllocated < REPETITIONS, bytesAllocated + " bytes allocated");
+    }
+}
@@ -47,6 +47,70 @@ public class UniquePersonListTest {
         assertTrue(uniquePersonList.contains(editedAlice));
     }
 
+    @Test
+    public void contains_personRemovedOrReplaced_returnsFalse() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPerson(ALICE, BOB);
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.containsPhone(BOB));
+        assertTrue(uniquePersonList.containsEmail(BOB));
+
+        uniquePersonList.remove(BOB);
+        assertFalse(uniquePersonList.contains(BOB));
+        assertFalse(uniquePersonList.containsPhone(BOB));
+        assertFalse(uniquePersonList.containsEmail(BOB));
+    }
+
+    @Test
+    public void contains_personWithoutPhoneOrEmail_onlyItself() {
+        Person nameOnlyAlice = new PersonBuilder(ALICE).withEmptyPhone().withEmptyEmail().build();
+        Person otherNameOnlyAlice = new PersonBuilder(nameOnlyAlice).build();
+        uniquePersonList.add(nameOnlyAlice);
+        assertTrue(uniquePersonList.contains(nameOnlyAlice));
+        assertFalse(uniquePersonList.contains(otherNameOnlyAlice));
+
+        uniquePersonList.remove(nameOnlyAlice);
+        assertFalse(uniquePersonList.contains(nameOnlyAlice));
+    }
+
+    @Test
+    public void contains_personChangedAtIndex_reindexed() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(0, BOB);
+        assertEquals(Arrays.asList(BOB, ALICE), uniquePersonList.asUnmodifiableObservableList());
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.add(1, BOB));
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPerson(1, BOB));
+
+        uniquePersonList.remove(0);
+        assertFalse(uniquePersonList.contains(BOB));
+        uniquePersonList.setPerson(0, BOB);
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(BOB));
+    }
+
+    @Test
+    public void contains_personWithoutPhoneOrEmail_onlyMatchesItself() {
+        Person noContact = new PersonBuilder(ALICE).withEmptyPhone().withEmptyEmail().build();
+        uniquePersonList.add(noContact);
+        assertTrue(uniquePersonList.contains(noContact));
+        assertFalse(uniquePersonList.contains(new PersonBuilder(noContact).build()));
+        assertFalse(uniquePersonList.containsPhone(noContact));
+    }
+
+    @Test
+    public void containsPhone_setPersons_reindexed() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPersons(Collections.singletonList(BOB));
+        assertFalse(uniquePersonList.containsPhone(ALICE));
+        assertTrue(uniquePersonList.containsPhone(BOB));
+
+        UniquePersonList replacement = new UniquePersonList();
+        replacement.add(ALICE);
+        uniquePersonList.setPersons(replacement);
+        assertTrue(uniquePersonList.containsEmail(ALICE));
+        assertFalse(uniquePersonList.containsEmail(BOB));
+    }
+
     @Test
     public void add_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.add(null));
@@ -162,6 +226,26 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
     }
 
+    @Test
+    public void setPersons_listWithSharedPhoneOrEmail_throwsDuplicatePersonException() {
+        Person sameEmail = new PersonBuilder(BOB).withEmail(ALICE.getEmail().get().value).build();
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(
+                Arrays.asList(ALICE, sameEmail)));
+
+        Person samePhone = new PersonBuilder(BOB).withPhone(ALICE.getPhone().get().value).build();
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(
+                Arrays.asList(ALICE, samePhone)));
+    }
+
+    @Test
+    public void setPersons_listWithPersonsWithoutPhoneOrEmail_uniqueUnlessSameInstance() {
+        Person noContact = new PersonBuilder(ALICE).withEmptyPhone().withEmptyEmail().build();
+        Person noContactCopy = new PersonBuilder(noContact).build();
+        uniquePersonList.setPersons(Arrays.asList(noContact, noContactCopy));
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(
+                Arrays.asList(noContact, noContact)));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
@@ -0,0 +1,177 @@
+package seedu.address.model.person.query;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.util.CompressedBitmap;
+import seedu.address.model.person.CostEstimate;
+import seedu.address.model.person.ModuleCode;
+import seedu.address.model.person.ModuleRoleContainsKeywordsPredicate;
+import seedu.address.model.person.ModuleRolePair;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonIndex;
+import seedu.address.model.person.RoleType;
+import seedu.address.model.person.TagContainsKeywordsPredicate;
+import seedu.address.model.person.UniquePersonList;
+import seedu.address.testutil.PersonBuilder;
+
+public class QueryTest {
+
+    private static final String[] NAMES = {"Alice Tan", "Bob Lee", "Carol Lim", "Dave Ng", "Eve Tan"};
+    private static final String[] TAGS = {"friends", "colleagues", "family"};
+    private static final String[] MODULES = {"CS1101S", "CS2103T", "MA1521"};
+    private static final int PERSON_COUNT = 240;
+
+    private static final Query NAME_TAN = name("tan");
+    private static final Query NAME_LEE = name("lee");
+    private static final Query TAG_FRIENDS = tag("friends");
+    private static final Query MODULE_CS2103T = moduleRole("CS2103T");
+
+    private final UniquePersonList persons = createPersons();
+    private final PersonIndex personIndex = persons.getPersonIndex();
+
+    @Test
+    public void constructor_tooFewOperands_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new AndQuery(List.of(NAME_TAN)));
+        assertThrows(IllegalArgumentException.class, () -> new OrQuery(List.of(NAME_TAN)));
+        assertThrows(NullPointerException.class, () -> new NotQuery(null));
+    }
+
+    @Test
+    public void getMatchingOrdinals_queries_matchTest() {
+        List<Query> queries = List.of(
+                NAME_TAN,
+                new NotQuery(TAG_FRIENDS),
+                new AndQuery(List.of(NAME_TAN, TAG_FRIENDS, MODULE_CS2103T)),
+                new OrQuery(List.of(NAME_LEE, TAG_FRIENDS, MODULE_CS2103T)),
+                new AndQuery(List.of(new OrQuery(List.of(NAME_TAN, NAME_LEE)), new NotQuery(MODULE_CS2103T))),
+                new NotQuery(new AndQuery(List.of(new NotQuery(NAME_TAN), new NotQuery(TAG_FRIENDS)))),
+                new AndQuery(List.of(name("nobody"), TAG_FRIENDS)));
+
+        CompressedBitmap fewCandidates = CompressedBitmap.of(0, 1, 2, 3, 4, 5, 6, 7, 8, 9);
+        for (Query query : queries) {
+            assertEquals(getOrdinalsTested(query, personIndex.getAllOrdinals()),
+                    query.getMatchingOrdinals(personIndex), query.describe());
+
+            // few enough candidates to be tested one at a time instead of looked up
+            assertEquals(getOrdinalsTested(query, fewCandidates),
+                    query.getMatchingOrdinals(personIndex, fewCandidates), query.describe());
+        }
+    }
+
+    @Test
+    public void getMatchingOrdinals_candidatesUnchanged() {
+        CompressedBitmap candidates = personIndex.getAllOrdinals();
+        new NotQuery(new OrQuery(List.of(NAME_TAN, TAG_FRIENDS))).getMatchingOrdinals(personIndex, candidates);
+        new AndQuery(List.of(name("nobody"), TAG_FRIENDS)).getMatchingOrdinals(personIndex, candidates);
+        assertEquals(personIndex.getAllOrdinals(), candidates);
+    }
+
+    @Test
+    public void estimate_queries_combineOperandSelectivities() {
+        // "tan" is in two of five names, and each tag and module is held by a third of the persons
+        assertEquals(0.4, NAME_TAN.estimate(personIndex).getSelectivity(), 1e-9);
+        assertEquals(0.6, new NotQuery(NAME_TAN).estimate(personIndex).getSelectivity(), 1e-9);
+        assertEquals(0.4 / 3, new AndQuery(List.of(NAME_TAN, TAG_FRIENDS)).estimate(personIndex).getSelectivity(),
+                1e-9);
+        assertEquals(1 - 0.6 * 2 / 3, new OrQuery(List.of(NAME_TAN, MODULE_CS2103T)).estimate(personIndex)
+                .getSelectivity(), 1e-9);
+
+        // later operands of a conjunction are only evaluated on fewer candidates
+        CostEstimate conjunctionEstimate = new AndQuery(List.of(NAME_TAN, MODULE_CS2103T)).estimate(personIndex);
+        assertTrue(conjunctionEstimate.getCost()
+                < NAME_TAN.estimate(personIndex).getCost() + MODULE_CS2103T.estimate(personIndex).getCost());
+    }
+
+    @Test
+    public void getCacheKey_operandsInDifferentOrder_sameKey() {
+        Query query = new AndQuery(List.of(NAME_TAN, new OrQuery(List.of(TAG_FRIENDS, MODULE_CS2103T))));
+        assertEquals(query.getCacheKey(),
+                new AndQuery(List.of(new OrQuery(List.of(MODULE_CS2103T, TAG_FRIENDS)), NAME_TAN)).getCacheKey());
+        assertFalse(query.getCacheKey().equals(
+                new OrQuery(List.of(NAME_TAN, new AndQuery(List.of(TAG_FRIENDS, MODULE_CS2103T)))).getCacheKey()));
+        assertFalse(NAME_TAN.getCacheKey().equals(new NotQuery(NAME_TAN).getCacheKey()));
+    }
+
+    @Test
+    public void describe() {
+        assertEquals("(tan)", NAME_TAN.describe());
+        assertEquals("(alice OR bob)", new TermQuery(new NameContainsKeywordsPredicate(List.of("alice", "bob")),
+                List.of("alice", "bob")).describe());
+        assertEquals("(tan) OR ((friends) AND NOT (CS2103T-Student))", new OrQuery(List.of(NAME_TAN,
+                new AndQuery(List.of(TAG_FRIENDS, new NotQuery(MODULE_CS2103T))))).describe());
+        assertEquals("NOT ((tan) OR (lee)) AND (friends)", new AndQuery(List.of(
+                new NotQuery(new OrQuery(List.of(NAME_TAN, NAME_LEE))), TAG_FRIENDS)).describe());
+    }
+
+    @Test
+    public void equals() {
+        Query query = new AndQuery(List.of(NAME_TAN, new NotQuery(TAG_FRIENDS)));
+
+        // same values -> returns true
+        assertTrue(query.equals(new AndQuery(List.of(name("tan"), new NotQuery(tag("friends"))))));
+
+        // same object -> returns true
+        assertTrue(query.equals(query));
+
+        // null -> returns false
+        assertFalse(query.equals(null));
+
+        // different types -> returns false
+        assertFalse(query.equals(new OrQuery(List.of(NAME_TAN, new NotQuery(TAG_FRIENDS)))));
+
+        // different operands -> returns false
+        assertFalse(query.equals(new AndQuery(List.of(NAME_TAN, TAG_FRIENDS))));
+
+        // different operand order -> returns false
+        assertFalse(query.equals(new AndQuery(List.of(new NotQuery(TAG_FRIENDS), NAME_TAN))));
+    }
+
+    private CompressedBitmap getOrdinalsTested(Query query, CompressedBitmap candidates) {
+        CompressedBitmap matchingOrdinals = new CompressedBitmap();
+        candidates.forEach(ordinal -> {
+            if (query.test(personIndex.getPerson(ordinal))) {
+                matchingOrdinals.add(ordinal);
+            }
+        });
+        return matchingOrdinals;
+    }
+
+    private static UniquePersonList createPersons() {
+        UniquePersonList persons = new UniquePersonList();
+        List<Person> personList = new ArrayList<>();
+        for (int i = 0; i < PERSON_COUNT; i++) {
+            personList.add(new PersonBuilder()
+                    .withName(NAMES[i % NAMES.length] + " " + i)
+                    .withPhone(String.valueOf(90000000 + i))
+                    .withEmail("person" + i + "@example.com")
+                    .withTags(TAGS[i % TAGS.length])
+                    .withModuleRoleMap(new ModuleCode(MODULES[i % MODULES.length]), RoleType.STUDENT)
+                    .build());
+        }
+        persons.setPersons(personList);
+        return persons;
+    }
+
+    private static Query name(String keyword) {
+        return new TermQuery(new NameContainsKeywordsPredicate(List.of(keyword)), List.of(keyword));
+    }
+
+    private static Query tag(String keyword) {
+        return new TermQuery(new TagContainsKeywordsPredicate(List.of(keyword)), List.of(keyword));
+    }
+
+    private static Query moduleRole(String moduleCode) {
+        ModuleRoleContainsKeywordsPredicate predicate = new ModuleRoleContainsKeywordsPredicate(
+                List.of(new ModuleRolePair(new ModuleCode(moduleCode), RoleType.STUDENT)));
+        return new TermQuery(predicate, predicate.getModuleRolePairs());
+    }
+}
@@ -0,0 +1,287 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class JournaledAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+    private Path journalFilePath;
+    private JournaledAddressBookStorage storage;
+
+    @BeforeEach
+    public void setUp() {
+        filePath = testFolder.resolve("TempAddressBook.json");
+        journalFilePath = JournaledAddressBookStorage.getJournalFilePath(filePath);
+        storage = new JournaledAddressBookStorage(new JsonAddressBookStorage(filePath));
+    }
+
+    @Test
+    public void saveAddressBook_firstSave_writesSnapshotOnly() throws Exception {
+        storage.saveAddressBook(getTypicalAddressBook());
+        assertTrue(Files.exists(filePath));
+        assertFalse(Files.exists(journalFilePath));
+    }
+
+    @Test
+    public void saveAddressBook_mutations_appendsToJournal() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        String snapshot = Files.readString(filePath);
+
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        original.setPerson(BENSON, new PersonBuilder(BENSON).withName("Benson Edited").build());
+        storage.saveAddressBook(original);
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original);
+
+        // snapshot untouched; header, insert, edit (removal and insert), removal
+        assertEquals(snapshot, Files.readString(filePath));
+        assertEquals(5, Files.readAllLines(journalFilePath).size());
+
+        JournaledAddressBookStorage reloaded = new JournaledAddressBookStorage(new JsonAddressBookStorage(filePath));
+        assertEquals(original, new AddressBook(reloaded.readAddressBook().get()));
+
+        // replaying compacts the journal into the snapshot
+        assertFalse(Files.exists(journalFilePath));
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_unchanged_doesNotWrite() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        storage.saveAddressBook(original);
+        assertFalse(Files.exists(journalFilePath));
+    }
+
+    @Test
+    public void saveAddressBook_clear_replaysToEmpty() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        storage.saveAddressBook(new AddressBook());
+
+        assertEquals(2, Files.readAllLines(journalFilePath).size());
+        assertEquals(new AddressBook(), new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_thresholdExceeded_compacts() throws Exception {
+        JournaledAddressBookStorage smallStorage =
+                new JournaledAddressBookStorage(new JsonAddressBookStorage(filePath), 1);
+        AddressBook original = getTypicalAddressBook();
+        smallStorage.saveAddressBook(original);
+
+        original.addPerson(HOON);
+        smallStorage.saveAddressBook(original);
+        assertTrue(Files.exists(journalFilePath));
+
+        original.addPerson(IDA);
+        smallStorage.saveAddressBook(original);
+        assertFalse(Files.exists(journalFilePath));
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_incompleteLastRecord_ignored() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        AddressBook expected = new AddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        original.addPerson(IDA);
+        storage.saveAddressBook(original);
+
+        List<String> lines = Files.readAllLines(journalFilePath);
+        String lastLine = lines.get(lines.size() - 1);
+        lines.set(lines.size() - 1, lastLine.substring(0, lastLine.length() / 2));
+        Files.write(journalFilePath, lines, StandardCharsets.UTF_8, StandardOpenOption.TRUNCATE_EXISTING);
+
+        expected.addPerson(HOON);
+        assertEquals(expected, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_staleJournal_discarded() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+
+        // the snapshot is rewritten behind the journal's back
+        AddressBook rewritten = new AddressBook();
+        rewritten.addPerson(CARL);
+        new JsonAddressBookStorage(filePath).saveAddressBook(rewritten);
+
+        assertEquals(rewritten, new AddressBook(storage.readAddressBook().get()));
+        assertFalse(Files.exists(journalFilePath));
+    }
+
+    @Test
+    public void readAddressBook_staleJournalSameSizeAndTime_discarded() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+
+        // the snapshot is rewritten with the same size and modification time, as on coarse timestamps
+        FileTime modified = Files.getLastModifiedTime(filePath);
+        String snapshot = Files.readString(filePath);
+        Files.writeString(filePath, snapshot.replace("\"Alice Pauline\"", "\"Alicf Pauline\""));
+        Files.setLastModifiedTime(filePath, modified);
+
+        AddressBook expected = getTypicalAddressBook();
+        expected.setPerson(ALICE, new PersonBuilder(ALICE).withName("Alicf Pauline").build());
+        assertEquals(expected, new AddressBook(storage.readAddressBook().get()));
+        assertFalse(Files.exists(journalFilePath));
+    }
+
+    @Test
+    public void readAddressBook_legacyJournalHeader_replayed() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        String header = String.format("{\"op\":\"BASE\",\"snapshotSize\":%d,\"snapshotModified\":%d}",
+                Files.size(filePath), Files.getLastModifiedTime(filePath).toMillis());
+        String insert = JsonUtil.toCompactJsonString(JsonAdaptedJournalRecord.insert(original.getPersonList().size(),
+                HOON));
+        Files.write(journalFilePath, Arrays.asList(header, insert), StandardCharsets.UTF_8);
+
+        original.addPerson(HOON);
+        JournaledAddressBookStorage reloaded = new JournaledAddressBookStorage(new JsonAddressBookStorage(filePath));
+        assertEquals(original, new AddressBook(reloaded.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_compactionInterrupted_keepsSnapshotAndJournal() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        String snapshot = Files.readString(filePath);
+
+        // the compaction on load fails partway through writing the new snapshot
+        JournaledAddressBookStorage failingStorage = new JournaledAddressBookStorage(
+                new JsonAddressBookStorage(filePath) {
+                    @Override
+                    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                        Files.writeString(filePath, "{\"persons\": [");
+                        throw new IOException("Disk full");
+                    }
+                });
+        assertEquals(original, new AddressBook(failingStorage.readAddressBook().get()));
+
+        assertEquals(snapshot, Files.readString(filePath));
+        assertTrue(Files.exists(journalFilePath));
+        JournaledAddressBookStorage reloaded = new JournaledAddressBookStorage(new JsonAddressBookStorage(filePath));
+        assertEquals(original, new AddressBook(reloaded.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_invalidRecordIndex_throwsDataLoadingException() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+
+        List<String> lines = Files.readAllLines(journalFilePath);
+        lines.add(1, "{\"op\":\"REMOVE\",\"index\":999}");
+        Files.write(journalFilePath, lines, StandardCharsets.UTF_8, StandardOpenOption.TRUNCATE_EXISTING);
+
+        assertThrows(DataLoadingException.class, () -> storage.readAddressBook());
+    }
+
+    @Test
+    public void importIfNewer_switchFormatTwiceWithEdit_keepsEdit() throws Exception {
+        Path binaryFilePath = BinaryAddressBookStorage.getBinaryFilePath(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        Files.setLastModifiedTime(filePath, FileTime.fromMillis(System.currentTimeMillis() - 3_600_000));
+
+        // switch to binary and edit there
+        JournaledAddressBookStorage binaryStorage =
+                new JournaledAddressBookStorage(new BinaryAddressBookStorage(binaryFilePath));
+        assertTrue(binaryStorage.importIfNewer(storage));
+        AddressBook edited = new AddressBook(binaryStorage.readAddressBook().get());
+        edited.addPerson(HOON);
+        binaryStorage.saveAddressBook(edited);
+
+        // switch back to json, whose data file is now stale
+        JournaledAddressBookStorage jsonStorage = new JournaledAddressBookStorage(new JsonAddressBookStorage(filePath));
+        JournaledAddressBookStorage otherStorage =
+                new JournaledAddressBookStorage(new BinaryAddressBookStorage(binaryFilePath));
+        assertTrue(jsonStorage.importIfNewer(otherStorage));
+        assertEquals(edited, new AddressBook(jsonStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void importIfNewer_otherOlder_keepsOwnData() throws Exception {
+        Path binaryFilePath = BinaryAddressBookStorage.getBinaryFilePath(filePath);
+        JournaledAddressBookStorage binaryStorage =
+                new JournaledAddressBookStorage(new BinaryAddressBookStorage(binaryFilePath));
+        binaryStorage.saveAddressBook(getTypicalAddressBook());
+        Files.setLastModifiedTime(binaryFilePath, FileTime.fromMillis(System.currentTimeMillis() - 3_600_000));
+
+        AddressBook current = new AddressBook();
+        current.addPerson(HOON);
+        storage.saveAddressBook(current);
+
+        assertFalse(storage.importIfNewer(binaryStorage));
+        assertEquals(current, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void importIfNewer_otherMissing_returnsFalse() throws Exception {
+        JournaledAddressBookStorage missingStorage = new JournaledAddressBookStorage(
+                new BinaryAddressBookStorage(BinaryAddressBookStorage.getBinaryFilePath(filePath)));
+        assertFalse(storage.importIfNewer(missingStorage));
+        assertFalse(Files.exists(filePath));
+    }
+
+    @Test
+    public void computeChanges_removalsAndInsertions_replayInOrder() {
+        List<Person> before = Arrays.asList(ALICE, BENSON, CARL, HOON);
+        List<Person> after = Arrays.asList(IDA, BENSON, HOON);
+        List<JsonAdaptedJournalRecord> records = JournaledAddressBookStorage.computeChanges(before, after).get();
+        // CARL and ALICE removed, IDA inserted
+        assertEquals(3, records.size());
+    }
+
+    @Test
+    public void computeChanges_reordered_empty() {
+        List<Person> before = Arrays.asList(ALICE, BENSON);
+        List<Person> after = Arrays.asList(BENSON, ALICE);
+        assertFalse(JournaledAddressBookStorage.computeChanges(before, after).isPresent());
+    }
+}
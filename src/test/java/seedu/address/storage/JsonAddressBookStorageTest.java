@@ -9,15 +9,24 @@ import static seedu.address.testutil.TypicalPersons.IDA;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.AbstractList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
 
 public class JsonAddressBookStorageTest {
     private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonAddressBookStorageTest");
@@ -86,6 +95,69 @@ public class JsonAddressBookStorageTest {
 
     }
 
+    @Test
+    public void saveAddressBook_compact_writesSingleLine() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        JsonAddressBookStorage compactStorage = new JsonAddressBookStorage(filePath, true);
+
+        compactStorage.saveAddressBook(original);
+        assertEquals(1, Files.readAllLines(filePath).size());
+
+        // compact and pretty-printed files read back the same
+        assertEquals(original, new AddressBook(compactStorage.readAddressBook().get()));
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_prettyPrinted_matchesJsonUtil() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        new JsonAddressBookStorage(filePath).saveAddressBook(original);
+        assertEquals(JsonUtil.toJsonString(new JsonSerializableAddressBook(original)), Files.readString(filePath));
+    }
+
+    @Test
+    public void saveAddressBook_failurePartwayThroughWriting_keepsPreviousFile() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+        jsonAddressBookStorage.saveAddressBook(original);
+
+        // the second person cannot be read, after the first has been written
+        List<Person> failingPersons = new AbstractList<>() {
+            @Override
+            public Person get(int index) {
+                if (index > 0) {
+                    throw new IllegalStateException("Failure while writing");
+                }
+                return HOON;
+            }
+
+            @Override
+            public int size() {
+                return 2;
+            }
+        };
+        ReadOnlyAddressBook failingAddressBook = new ReadOnlyAddressBook() {
+            @Override
+            public ObservableList<Person> getPersonList() {
+                return FXCollections.observableList(failingPersons);
+            }
+
+            @Override
+            public long getModificationCount() {
+                return 0;
+            }
+        };
+
+        assertThrows(IllegalStateException.class, () -> jsonAddressBookStorage.saveAddressBook(failingAddressBook));
+        assertEquals(original, new AddressBook(jsonAddressBookStorage.readAddressBook().get()));
+        try (Stream<Path> files = Files.list(testFolder)) {
+            assertEquals(List.of(filePath), files.collect(Collectors.toList()));
+        }
+    }
+
     @Test
     public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveAddressBook(null, "SomeFile.json"));
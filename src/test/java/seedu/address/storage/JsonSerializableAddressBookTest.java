@@ -8,6 +8,9 @@ import java.nio.file.Paths;
 
 import org.junit.jupiter.api.Test;
 
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
@@ -19,6 +22,7 @@ public class JsonSerializableAddressBookTest {
     private static final Path TYPICAL_PERSONS_FILE = TEST_DATA_FOLDER.resolve("typicalPersonsAddressBook.json");
     private static final Path INVALID_PERSON_FILE = TEST_DATA_FOLDER.resolve("invalidPersonAddressBook.json");
     private static final Path DUPLICATE_PERSON_FILE = TEST_DATA_FOLDER.resolve("duplicatePersonAddressBook.json");
+    private static final Path NOT_AN_OBJECT_FILE = TEST_DATA_FOLDER.resolve("notAnObjectAddressBook.json");
 
     @Test
     public void toModelType_typicalPersonsFile_success() throws Exception {
@@ -44,4 +48,33 @@ public class JsonSerializableAddressBookTest {
                 dataFromFile::toModelType);
     }
 
+    @Test
+    public void readModelType_typicalPersonsFile_success() throws Exception {
+        try (JsonParser parser = JsonUtil.createParser(TYPICAL_PERSONS_FILE)) {
+            assertEquals(TypicalPersons.getTypicalAddressBook(), JsonSerializableAddressBook.readModelType(parser));
+        }
+    }
+
+    @Test
+    public void readModelType_invalidPersonFile_throwsIllegalValueException() throws Exception {
+        try (JsonParser parser = JsonUtil.createParser(INVALID_PERSON_FILE)) {
+            assertThrows(IllegalValueException.class, () -> JsonSerializableAddressBook.readModelType(parser));
+        }
+    }
+
+    @Test
+    public void readModelType_duplicatePersons_throwsIllegalValueException() throws Exception {
+        try (JsonParser parser = JsonUtil.createParser(DUPLICATE_PERSON_FILE)) {
+            assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON,
+                () -> JsonSerializableAddressBook.readModelType(parser));
+        }
+    }
+
+    @Test
+    public void readModelType_notAnObject_throwsJsonParseException() throws Exception {
+        try (JsonParser parser = JsonUtil.createParser(NOT_AN_OBJECT_FILE)) {
+            assertThrows(JsonParseException.class, () -> JsonSerializableAddressBook.readModelType(parser));
+        }
+    }
+
 }
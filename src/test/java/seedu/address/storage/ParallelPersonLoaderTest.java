@@ -0,0 +1,101 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.testutil.PersonBuilder;
+
+public class ParallelPersonLoaderTest {
+
+    /** Enough persons to be split across several fork-join chunks. */
+    private static final int PERSON_COUNT = ParallelPersonLoader.CHUNK_SIZE * 8;
+
+    @Test
+    public void load_validPersons_keepsFileOrder() throws Exception {
+        List<Person> persons = createPersons(PERSON_COUNT);
+        ParallelPersonLoader loader = new ParallelPersonLoader();
+        loader.load(adapt(persons));
+
+        AddressBook expected = new AddressBook();
+        expected.setPersons(persons);
+        assertEquals(expected, loader.toAddressBook());
+    }
+
+    @Test
+    public void load_severalInvalidPersons_reportsFirstInFileOrder() {
+        List<JsonAdaptedPerson> adaptedPersons = adapt(createPersons(PERSON_COUNT));
+        adaptedPersons.set(PERSON_COUNT - 10, withEmail(adaptedPersons.get(PERSON_COUNT - 10), "invalid email"));
+        adaptedPersons.set(PERSON_COUNT / 2, withPhone(adaptedPersons.get(PERSON_COUNT / 2), "invalid phone"));
+
+        assertThrows(IllegalValueException.class, Phone.MESSAGE_CONSTRAINTS,
+            () -> new ParallelPersonLoader().load(adaptedPersons));
+    }
+
+    @Test
+    public void load_duplicateBeforeInvalidPerson_reportsDuplicate() {
+        List<JsonAdaptedPerson> adaptedPersons = adapt(createPersons(PERSON_COUNT));
+        adaptedPersons.set(PERSON_COUNT - 10, withEmail(adaptedPersons.get(PERSON_COUNT - 10), "invalid email"));
+        adaptedPersons.set(PERSON_COUNT / 2, adaptedPersons.get(1));
+
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON,
+            () -> new ParallelPersonLoader().load(adaptedPersons));
+    }
+
+    @Test
+    public void load_duplicateAcrossBatches_reportsDuplicate() throws Exception {
+        List<Person> persons = createPersons(2);
+        ParallelPersonLoader loader = new ParallelPersonLoader();
+        loader.load(adapt(persons.subList(0, 1)));
+
+        // same email, different phone
+        Person sameEmail = new PersonBuilder(persons.get(0)).withPhone("99999999").build();
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON,
+            () -> loader.load(adapt(List.of(sameEmail))));
+    }
+
+    private static List<Person> createPersons(int count) {
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            persons.add(new PersonBuilder().withName("Person " + i).withPhone(String.valueOf(80000000 + i))
+                    .withEmail("person" + i + "@example.com").build());
+        }
+        return persons;
+    }
+
+    private static List<JsonAdaptedPerson> adapt(List<Person> persons) {
+        List<JsonAdaptedPerson> adaptedPersons = new ArrayList<>();
+        for (Person person : persons) {
+            adaptedPersons.add(new JsonAdaptedPerson(person));
+        }
+        return adaptedPersons;
+    }
+
+    private static JsonAdaptedPerson withPhone(JsonAdaptedPerson adaptedPerson, String phone) {
+        Person person = toModelType(adaptedPerson);
+        return new JsonAdaptedPerson(person.getName().fullName, phone, person.getEmail().get().value,
+                null, null, new JsonAdaptedModuleRoleMap(person.getModuleRoleMap()), null);
+    }
+
+    private static JsonAdaptedPerson withEmail(JsonAdaptedPerson adaptedPerson, String email) {
+        Person person = toModelType(adaptedPerson);
+        return new JsonAdaptedPerson(person.getName().fullName, person.getPhone().get().value, email,
+                null, null, new JsonAdaptedModuleRoleMap(person.getModuleRoleMap()), null);
+    }
+
+    private static Person toModelType(JsonAdaptedPerson adaptedPerson) {
+        try {
+            return adaptedPerson.toModelType();
+        } catch (IllegalValueException e) {
+            throw new AssertionError("Person should be valid.", e);
+        }
+    }
+}
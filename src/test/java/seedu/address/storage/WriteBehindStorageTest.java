@@ -0,0 +1,135 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.AccessDeniedException;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+
+public class WriteBehindStorageTest {
+
+    /** Long enough that queued saves are only written when the test flushes them. */
+    private static final long NEVER_MILLIS = 600_000;
+
+    @TempDir
+    public Path testFolder;
+
+    private CountingAddressBookStorage addressBookStorage;
+    private WriteBehindStorage storage;
+
+    @BeforeEach
+    public void setUp() {
+        addressBookStorage = new CountingAddressBookStorage(testFolder.resolve("ab"));
+        storage = new WriteBehindStorage(new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(testFolder.resolve("prefs"))), NEVER_MILLIS);
+    }
+
+    @Test
+    public void saveAddressBook_burstOfChanges_writtenOnce() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        original.addPerson(IDA);
+        storage.saveAddressBook(original);
+        assertEquals(0, addressBookStorage.writeCount);
+
+        storage.flush();
+        assertEquals(1, addressBookStorage.writeCount);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_unchanged_notWrittenAgain() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        storage.flush();
+        storage.saveAddressBook(original);
+        storage.flush();
+        assertEquals(1, addressBookStorage.writeCount);
+    }
+
+    @Test
+    public void saveAddressBook_changedAfterQueued_writesQueuedState() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        AddressBook expected = new AddressBook(original);
+        storage.saveAddressBook(original);
+
+        // changes that have not been saved yet are not written
+        original.addPerson(HOON);
+        storage.flush();
+        assertEquals(expected, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void flush_writeFails_throwsAndRetries() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        addressBookStorage.isFailing = true;
+        storage.saveAddressBook(original);
+        assertThrows(AccessDeniedException.class, () -> storage.flush());
+
+        addressBookStorage.isFailing = false;
+        storage.flush();
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_earlierWriteFailed_reportedOnceAndRetried() throws Exception {
+        WriteBehindStorage immediateStorage = new WriteBehindStorage(new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(testFolder.resolve("prefs"))), 0);
+        AddressBook original = getTypicalAddressBook();
+        addressBookStorage.isFailing = true;
+        immediateStorage.saveAddressBook(original);
+
+        // the background write fails shortly after the save, without failing the save itself
+        long deadline = System.currentTimeMillis() + 5000;
+        Optional<IOException> failure = immediateStorage.takeBackgroundSaveFailure();
+        while (failure.isEmpty() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+            failure = immediateStorage.takeBackgroundSaveFailure();
+        }
+        assertTrue(failure.get() instanceof AccessDeniedException);
+        assertTrue(immediateStorage.takeBackgroundSaveFailure().isEmpty());
+
+        // saving again retries the failed write, even though nothing has changed
+        addressBookStorage.isFailing = false;
+        immediateStorage.saveAddressBook(original);
+        immediateStorage.flush();
+        assertEquals(original, new AddressBook(immediateStorage.readAddressBook().get()));
+        assertTrue(immediateStorage.takeBackgroundSaveFailure().isEmpty());
+    }
+
+    /**
+     * A {@code JsonAddressBookStorage} that counts its writes and can be made to fail them.
+     */
+    private static class CountingAddressBookStorage extends JsonAddressBookStorage {
+        private volatile boolean isFailing;
+        private volatile int writeCount;
+
+        CountingAddressBookStorage(Path filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+            if (isFailing) {
+                throw new AccessDeniedException(filePath.toString());
+            }
+            writeCount++;
+            super.saveAddressBook(addressBook, filePath);
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package seedu.address.testutil;
 
 import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -52,4 +54,28 @@ public class TestUtil {
     public static Person getPerson(Model model, Index index) {
         return model.getFilteredPersonList().get(index.getZeroBased());
     }
+
+    /**
+     * Returns the number of bytes allocated on the heap by the current thread while running {@code action}
+     * {@code repetitions} times, after running it as many times beforehand to warm it up.
+     * Returns -1 if the JVM cannot measure the memory allocated by a thread.
+     */
+    public static long getBytesAllocated(Runnable action, int repetitions) {
+        ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+        if (!(threadBean instanceof com.sun.management.ThreadMXBean allocationBean)
+                || !allocationBean.isThreadAllocatedMemorySupported()
+                || !allocationBean.isThreadAllocatedMemoryEnabled()) {
+            return -1;
+        }
+
+        for (int i = 0; i < repetitions; i++) {
+            action.run();
+        }
+        long threadId = Thread.currentThread().getId();
+        long bytesBefore = allocationBean.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < repetitions; i++) {
+            action.run();
+        }
+        return allocationBean.getThreadAllocatedBytes(threadId) - bytesBefore;
+    }
 }